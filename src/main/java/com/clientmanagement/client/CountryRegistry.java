@@ -0,0 +1,89 @@
+package com.clientmanagement.client;
+
+import com.clientmanagement.dto.country.CountryData;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable table of ISO 3166-1 alpha-2 codes with their demonym and common name.
+ *
+ * A two-letter code maps straight to a slot in a 26x26 array, so a lookup is a couple of
+ * character checks and an array read -- no hashing, no allocation, no network.
+ */
+public final class CountryRegistry {
+
+    private static final int SLOTS = 26 * 26;
+
+    private static final CountryRegistry EMPTY = new CountryRegistry(new String[SLOTS], new String[SLOTS], 0);
+
+    private final String[] demonyms;
+    private final String[] names;
+    private final int size;
+
+    private CountryRegistry(String[] demonyms, String[] names, int size) {
+        this.demonyms = demonyms;
+        this.names = names;
+        this.size = size;
+    }
+
+    public static CountryRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a registry from RestCountries payloads. Entries without a usable
+     * {@code cca2} code are skipped.
+     */
+    public static CountryRegistry of(List<CountryData> countries, Function<CountryData, String> demonymExtractor) {
+        String[] demonyms = new String[SLOTS];
+        String[] names = new String[SLOTS];
+        int size = 0;
+        for (CountryData country : countries) {
+            int slot = slot(country.cca2);
+            if (slot < 0) {
+                continue;
+            }
+            if (demonyms[slot] == null && names[slot] == null) {
+                size++;
+            }
+            demonyms[slot] = demonymExtractor.apply(country);
+            names[slot] = country.name != null ? country.name.common : null;
+        }
+        return new CountryRegistry(demonyms, names, size);
+    }
+
+    /**
+     * Expects an already upper-cased code; anything that isn't two letters A-Z is not found.
+     */
+    public boolean contains(String code) {
+        int slot = slot(code);
+        return slot >= 0 && (demonyms[slot] != null || names[slot] != null);
+    }
+
+    public String demonym(String code) {
+        int slot = slot(code);
+        return slot >= 0 ? demonyms[slot] : null;
+    }
+
+    public String name(String code) {
+        int slot = slot(code);
+        return slot >= 0 ? names[slot] : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int slot(String code) {
+        if (code == null || code.length() != 2) {
+            return -1;
+        }
+        int first = code.charAt(0) - 'A';
+        int second = code.charAt(1) - 'A';
+        if (first < 0 || first >= 26 || second < 0 || second >= 26) {
+            return -1;
+        }
+        return first * 26 + second;
+    }
+}
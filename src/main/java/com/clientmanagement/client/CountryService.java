@@ -3,29 +3,114 @@ package com.clientmanagement.client;
 import com.clientmanagement.dto.country.CountryData;
 import com.clientmanagement.exception.CountryServiceException;
 import com.clientmanagement.exception.InvalidCountryCodeException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.Startup;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.WebApplicationException;
-import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 import org.jboss.logging.Logger;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Wraps the RestCountries external API to fetch demonyms and validate country codes.
+ * Resolves demonyms and validates country codes.
+ *
+ * Codes are answered from the bundled {@link CountryRegistry} snapshot loaded at startup.
+ * Only codes missing from it go to the RestCountries API, through a {@link DemonymCache}
+ * so repeated codes don't cost an HTTP round trip, and a {@link ResilientCountriesClient}
+ * so a struggling upstream fails fast with {@link CountryServiceException}.
  */
+@Startup
 @ApplicationScoped
 public class CountryService {
 
     private static final Logger LOG = Logger.getLogger(CountryService.class);
 
     @Inject
-    @RestClient
-    RestCountriesClient restCountriesClient;
+    ResilientCountriesClient countriesClient;
+
+    @Inject
+    ManagedExecutor executor;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "country.snapshot.enabled", defaultValue = "true")
+    boolean snapshotEnabled;
+
+    @ConfigProperty(name = "country.snapshot.resource", defaultValue = "countries.json")
+    String snapshotResource;
+
+    @ConfigProperty(name = "country.cache.max-size", defaultValue = "512")
+    int cacheMaxSize;
+
+    @ConfigProperty(name = "country.cache.ttl", defaultValue = "24h")
+    Duration cacheTtl;
+
+    @ConfigProperty(name = "country.cache.negative-ttl", defaultValue = "10m")
+    Duration cacheNegativeTtl;
+
+    @ConfigProperty(name = "country.cache.refresh-ahead", defaultValue = "0.8")
+    double cacheRefreshAhead;
+
+    private CountryRegistry registry = CountryRegistry.empty();
+    private DemonymCache demonymCache;
+
+    private final LongAdder circuitOpenRejections = new LongAdder();
+    private final LongAdder bulkheadRejections = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        if (snapshotEnabled) {
+            registry = loadSnapshot(snapshotResource);
+        }
+        Gauge.builder("country.registry.size", this, service -> service.registry.size())
+                .description("Countries available from the bundled snapshot")
+                .register(meterRegistry);
+
+        demonymCache = new DemonymCache(cacheMaxSize, cacheTtl, cacheNegativeTtl, cacheRefreshAhead,
+                this::fetchDemonym, this::fetchDemonymAsync, executor);
+        new DemonymCacheMetrics(demonymCache, "country-demonyms").bindTo(meterRegistry);
+    }
+
+    private CountryRegistry loadSnapshot(String resource) {
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                LOG.warn("Country snapshot '" + resource + "' not found, all lookups will go to RestCountries");
+                return CountryRegistry.empty();
+            }
+            List<CountryData> countries = objectMapper.readValue(in, new TypeReference<List<CountryData>>() { });
+            CountryRegistry loaded = CountryRegistry.of(countries, CountryService::extractDemonym);
+            LOG.info("Loaded " + loaded.size() + " countries from snapshot '" + resource + "'");
+            return loaded;
+        } catch (IOException e) {
+            LOG.error("Could not read country snapshot '" + resource + "', all lookups will go to RestCountries", e);
+            return CountryRegistry.empty();
+        }
+    }
 
     /**
-     * Fetches the demonym for a country code. Throws if the code doesn't exist.
+     * Returns the demonym for a country code. Throws if the code doesn't exist.
      */
     public String getDemonym(String countryCode) {
         if (countryCode == null || countryCode.isBlank()) {
@@ -33,38 +118,118 @@ public class CountryService {
         }
 
         String code = countryCode.toUpperCase().trim();
+        String demonym = registry.demonym(code);
+        if (demonym != null) {
+            return demonym;
+        }
+        return demonymCache.get(code);
+    }
+
+    public int snapshotSize() {
+        return registry.size();
+    }
+
+    /**
+     * Lookups refused without calling RestCountries because the circuit was open.
+     */
+    public long circuitOpenRejections() {
+        return circuitOpenRejections.sum();
+    }
+
+    /**
+     * Lookups refused because the concurrency limit on RestCountries calls was reached.
+     */
+    public long bulkheadRejections() {
+        return bulkheadRejections.sum();
+    }
+
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Drops every cached lookup so the next call for each code goes upstream again.
+     */
+    public void invalidateCache() {
+        demonymCache.invalidateAll();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getDemonym(String)}. Snapshot and cache hits complete
+     * immediately; a miss calls RestCountries without tying up a thread. Misses go through
+     * the same {@link DemonymCache} as the blocking path, so concurrent lookups for a code
+     * share one call whichever path they come from.
+     */
+    public Uni<String> getDemonymAsync(String countryCode) {
+        if (countryCode == null || countryCode.isBlank()) {
+            return Uni.createFrom().nullItem();
+        }
+
+        String code = countryCode.toUpperCase().trim();
+        String demonym = registry.demonym(code);
+        if (demonym != null) {
+            return Uni.createFrom().item(demonym);
+        }
+        return Uni.createFrom().completionStage(() -> demonymCache.getAsync(code));
+    }
+
+    private CompletionStage<String> fetchDemonymAsync(String code) {
+        LOG.debug("Fetching demonym asynchronously for country code: " + code);
+
+        return countriesClient.getCountryByCodeAsync(code)
+                .map(CountryService::extractDemonym)
+                .invoke(demonym -> LOG.info("Successfully fetched demonym for " + code + ": " + demonym))
+                .onFailure().transform(e -> translateFailure(code, e))
+                .subscribeAsCompletionStage();
+    }
+
+    private String fetchDemonym(String code) {
         LOG.debug("Fetching demonym for country code: " + code);
 
         try {
-            List<CountryData> countries = restCountriesClient.getCountryByCode(code);
-            
-            if (countries == null || countries.isEmpty()) {
-                LOG.warn("No country data found for code: " + code);
-                throw new InvalidCountryCodeException(code);
-            }
-
-            CountryData country = countries.get(0);
+            CountryData country = countriesClient.getCountryByCode(code);
             String demonym = extractDemonym(country);
-            
+
             LOG.info("Successfully fetched demonym for " + code + ": " + demonym);
             return demonym;
+        } catch (Exception e) {
+            throw translateFailure(code, e);
+        }
+    }
 
-        } catch (WebApplicationException e) {
-            if (e.getResponse().getStatus() == 404) {
-                LOG.warn("Country not found for code: " + code);
-                throw new InvalidCountryCodeException(code);
-            }
+    /**
+     * Maps a failed RestCountries call to what callers see: unknown codes stay
+     * {@link InvalidCountryCodeException}, everything else becomes {@link CountryServiceException}.
+     */
+    private RuntimeException translateFailure(String code, Throwable e) {
+        if (e instanceof InvalidCountryCodeException invalid) {
+            LOG.warn("Country not found for code: " + code);
+            return invalid;
+        }
+        if (e instanceof CircuitBreakerOpenException) {
+            circuitOpenRejections.increment();
+            LOG.warn("RestCountries circuit is open, failing fast for code: " + code);
+            return new CountryServiceException(code, "circuit breaker is open");
+        }
+        if (e instanceof BulkheadException) {
+            bulkheadRejections.increment();
+            LOG.warn("Too many concurrent RestCountries calls, rejecting lookup for code: " + code);
+            return new CountryServiceException(code, "too many concurrent lookups");
+        }
+        if (e instanceof TimeoutException) {
+            timeouts.increment();
+            LOG.warn("RestCountries lookup timed out for code: " + code);
+            return new CountryServiceException(code, "lookup timed out");
+        }
+        if (e instanceof WebApplicationException) {
             LOG.error("Error fetching country data: " + e.getMessage(), e);
-            throw new CountryServiceException(code, e);
-        } catch (InvalidCountryCodeException e) {
-            throw e;
-        } catch (Exception e) {
+        } else {
             LOG.error("Unexpected error fetching country data: " + e.getMessage(), e);
-            throw new CountryServiceException(code, e);
         }
+        return new CountryServiceException(code, e);
     }
 
-    private String extractDemonym(CountryData country) {
+    static String extractDemonym(CountryData country) {
         if (country.demonyms != null) {
             if (country.demonyms.eng != null && country.demonyms.eng.m != null) {
                 return country.demonyms.eng.m;
@@ -81,6 +246,9 @@ public class CountryService {
     }
 
     public boolean isValidCountryCode(String countryCode) {
+        if (countryCode != null && registry.contains(countryCode.toUpperCase().trim())) {
+            return true;
+        }
         try {
             getDemonym(countryCode);
             return true;
@@ -94,10 +262,16 @@ public class CountryService {
     }
 
     public Optional<String> getCountryName(String countryCode) {
+        if (countryCode != null) {
+            String name = registry.name(countryCode.toUpperCase().trim());
+            if (name != null) {
+                return Optional.of(name);
+            }
+        }
         try {
-            List<CountryData> countries = restCountriesClient.getCountryByCode(countryCode);
-            if (countries != null && !countries.isEmpty() && countries.get(0).name != null) {
-                return Optional.ofNullable(countries.get(0).name.common);
+            CountryData country = countriesClient.getCountryByCode(countryCode);
+            if (country.name != null) {
+                return Optional.ofNullable(country.name.common);
             }
         } catch (Exception e) {
             LOG.warn("Could not fetch country name: " + e.getMessage());
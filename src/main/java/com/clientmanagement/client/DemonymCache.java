@@ -0,0 +1,317 @@
+package com.clientmanagement.client;
+
+import com.clientmanagement.exception.CountryServiceException;
+import com.clientmanagement.exception.InvalidCountryCodeException;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-memory cache of demonym lookups, keyed by the upper-cased country code.
+ *
+ * Valid codes are kept for {@code ttl} and refreshed in the background once they pass
+ * {@code refreshAhead} of their lifetime. Unknown codes are cached for the shorter
+ * {@code negativeTtl}. When the upstream is failing, the last known demonym keeps being
+ * served instead of propagating the error.
+ *
+ * Loads and refreshes for the same code are coalesced, blocking and non-blocking ones
+ * alike, so a burst of misses on a cold cache costs a single upstream call.
+ */
+public class DemonymCache {
+
+    private static final Logger LOG = Logger.getLogger(DemonymCache.class);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final SingleFlight<String, String> loads = new SingleFlight<>();
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final long refreshAfterNanos;
+    private final Function<String, String> loader;
+    private final Function<String, CompletionStage<String>> asyncLoader;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+
+    public DemonymCache(int maxSize, Duration ttl, Duration negativeTtl, double refreshAhead,
+                        Function<String, String> loader, Function<String, CompletionStage<String>> asyncLoader,
+                        Executor refreshExecutor) {
+        this(maxSize, ttl, negativeTtl, refreshAhead, loader, asyncLoader, refreshExecutor, System::nanoTime);
+    }
+
+    DemonymCache(int maxSize, Duration ttl, Duration negativeTtl, double refreshAhead,
+                 Function<String, String> loader, Function<String, CompletionStage<String>> asyncLoader,
+                 Executor refreshExecutor, LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        if (refreshAhead <= 0 || refreshAhead > 1) {
+            throw new IllegalArgumentException("refreshAhead must be in (0, 1]");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.refreshAfterNanos = (long) (ttlNanos * refreshAhead);
+        this.loader = loader;
+        this.asyncLoader = asyncLoader;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the demonym for an already normalized code, loading it on a miss.
+     * Throws {@link InvalidCountryCodeException} for codes known not to exist.
+     */
+    public String get(String code) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(code);
+
+        if (entry != null && now < entry.expiresAt) {
+            return hit(code, entry, now);
+        }
+
+        misses.increment();
+        try {
+            return load(code, now);
+        } catch (CountryServiceException e) {
+            if (entry != null && !entry.invalid) {
+                return serveStale(code, entry, now, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #get}: hits complete immediately, a miss loads through
+     * the async loader. It joins a blocking load already running for the code, and vice versa.
+     */
+    public CompletionStage<String> getAsync(String code) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(code);
+
+        if (entry != null && now < entry.expiresAt) {
+            try {
+                return CompletableFuture.completedFuture(hit(code, entry, now));
+            } catch (InvalidCountryCodeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        misses.increment();
+        return loads.executeAsync(code, () -> {
+            Entry current = entries.get(code);
+            long start = clock.getAsLong();
+            if (current != null && current.storedAt >= now && start < current.expiresAt) {
+                return current.invalid
+                        ? CompletableFuture.failedFuture(new InvalidCountryCodeException(code))
+                        : CompletableFuture.completedFuture(current.demonym);
+            }
+            return asyncLoader.apply(code).whenComplete((demonym, failure) -> {
+                if (failure == null) {
+                    storeValid(code, demonym, start);
+                } else if (SingleFlight.unwrap(failure) instanceof InvalidCountryCodeException) {
+                    storeInvalid(code, start);
+                }
+            });
+        }).exceptionallyCompose(failure -> {
+            Throwable cause = SingleFlight.unwrap(failure);
+            if (cause instanceof CountryServiceException e && entry != null && !entry.invalid) {
+                return CompletableFuture.completedFuture(serveStale(code, entry, now, e));
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    /**
+     * Upstream is down: keep answering with what we had and retry after a short back-off.
+     */
+    private String serveStale(String code, Entry entry, long now, CountryServiceException e) {
+        staleHits.increment();
+        LOG.warn("Serving stale demonym for " + code + ": " + e.getMessage());
+        entries.put(code, entry.extendedUntil(now + negativeTtlNanos));
+        return entry.demonym;
+    }
+
+    private String hit(String code, Entry entry, long now) {
+        hits.increment();
+        if (!entry.invalid && now >= entry.refreshAt) {
+            scheduleRefresh(code);
+        }
+        return entry.resolve(code);
+    }
+
+    private String load(String code, long now) {
+        return loads.execute(code, () -> {
+            // Another caller may have stored the entry between our miss and winning the flight
+            Entry current = entries.get(code);
+            long start = clock.getAsLong();
+            if (current != null && current.storedAt >= now && start < current.expiresAt) {
+                return current.resolve(code);
+            }
+            return fetchAndStore(code, start);
+        });
+    }
+
+    private String fetchAndStore(String code, long now) {
+        try {
+            String demonym = loader.apply(code);
+            storeValid(code, demonym, now);
+            return demonym;
+        } catch (InvalidCountryCodeException e) {
+            storeInvalid(code, now);
+            throw e;
+        }
+    }
+
+    private void storeValid(String code, String demonym, long now) {
+        store(code, Entry.valid(demonym, now, now + refreshAfterNanos, now + ttlNanos));
+    }
+
+    private void storeInvalid(String code, long now) {
+        store(code, Entry.invalid(now, now + negativeTtlNanos));
+    }
+
+    private void scheduleRefresh(String code) {
+        if (!refreshing.add(code)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refresh(code));
+        } catch (RuntimeException e) {
+            refreshing.remove(code);
+            LOG.warn("Could not schedule demonym refresh for " + code + ": " + e.getMessage());
+        }
+    }
+
+    private void refresh(String code) {
+        try {
+            load(code, clock.getAsLong());
+            refreshes.increment();
+        } catch (InvalidCountryCodeException e) {
+            refreshes.increment();
+        } catch (RuntimeException e) {
+            // Leave the current entry in place; it is still valid until it expires
+            refreshFailures.increment();
+            LOG.warn("Background demonym refresh failed for " + code + ": " + e.getMessage());
+        } finally {
+            refreshing.remove(code);
+        }
+    }
+
+    private void store(String code, Entry entry) {
+        entries.put(code, entry);
+        puts.increment();
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Drops expired entries, then the ones closest to expiring, until the cache fits.
+     * Only runs when the cache is full, which with ~250 ISO codes should be rare.
+     */
+    private void evict() {
+        long now = clock.getAsLong();
+        entries.entrySet().removeIf(e -> {
+            boolean expired = now >= e.getValue().expiresAt;
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+        while (entries.size() > maxSize) {
+            String oldest = null;
+            long oldestExpiry = Long.MAX_VALUE;
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                if (e.getValue().expiresAt < oldestExpiry) {
+                    oldestExpiry = e.getValue().expiresAt;
+                    oldest = e.getKey();
+                }
+            }
+            if (oldest == null || entries.remove(oldest) == null) {
+                break;
+            }
+            evictions.increment();
+        }
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long refreshCount() {
+        return refreshes.sum();
+    }
+
+    public long refreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    public long staleHitCount() {
+        return staleHits.sum();
+    }
+
+    public long coalescedLoadCount() {
+        return loads.coalescedCount();
+    }
+
+    private record Entry(String demonym, boolean invalid, long storedAt, long refreshAt, long expiresAt) {
+
+        static Entry valid(String demonym, long storedAt, long refreshAt, long expiresAt) {
+            return new Entry(demonym, false, storedAt, refreshAt, expiresAt);
+        }
+
+        static Entry invalid(long storedAt, long expiresAt) {
+            return new Entry(null, true, storedAt, expiresAt, expiresAt);
+        }
+
+        Entry extendedUntil(long expiresAt) {
+            return new Entry(demonym, invalid, storedAt, expiresAt, expiresAt);
+        }
+
+        String resolve(String code) {
+            if (invalid) {
+                throw new InvalidCountryCodeException(code);
+            }
+            return demonym;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.clientmanagement.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes {@link DemonymCache} statistics using Micrometer's standard cache meter names
+ * ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size}),
+ * plus refresh and load-coalescing counters specific to this cache.
+ */
+class DemonymCacheMetrics extends CacheMeterBinder<DemonymCache> {
+
+    DemonymCacheMetrics(DemonymCache cache, String cacheName) {
+        super(cache, cacheName, Tags.empty());
+    }
+
+    @Override
+    protected Long size() {
+        DemonymCache cache = getCache();
+        return cache == null ? null : cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        DemonymCache cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        DemonymCache cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        DemonymCache cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        DemonymCache cache = getCache();
+        return cache == null ? 0 : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        DemonymCache cache = getCache();
+        FunctionCounter.builder("cache.refreshes", cache, DemonymCache::refreshCount)
+                .tags(getTagsWithCacheName())
+                .tag("result", "success")
+                .description("Background refreshes of entries nearing expiry")
+                .register(registry);
+        FunctionCounter.builder("cache.refreshes", cache, DemonymCache::refreshFailureCount)
+                .tags(getTagsWithCacheName())
+                .tag("result", "failure")
+                .description("Background refreshes of entries nearing expiry")
+                .register(registry);
+        FunctionCounter.builder("cache.coalesced.loads", cache, DemonymCache::coalescedLoadCount)
+                .tags(getTagsWithCacheName())
+                .description("Loads that waited on another caller's in-flight upstream call")
+                .register(registry);
+        FunctionCounter.builder("cache.stale.gets", cache, DemonymCache::staleHitCount)
+                .tags(getTagsWithCacheName())
+                .description("Expired entries served because the upstream lookup failed")
+                .register(registry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.clientmanagement.client;
+
+import com.clientmanagement.dto.country.CountryData;
+import com.clientmanagement.exception.InvalidCountryCodeException;
+import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
+import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import java.util.List;
+
+/**
+ * Guards calls to {@link RestCountriesClient} so a slow or failing upstream can't tie up
+ * request threads (and the DB connections they hold).
+ *
+ * Each call has a time budget, at most {@code BULKHEAD} calls run at once, and after
+ * repeated failures the circuit opens and calls fail fast until a half-open probe succeeds.
+ * Unknown codes are a normal answer, not a failure, so they don't trip the breaker.
+ * Limits can be overridden with the usual MicroProfile keys, e.g.
+ * {@code com.clientmanagement.client.ResilientCountriesClient/getCountryByCode/Timeout/value}.
+ */
+@ApplicationScoped
+public class ResilientCountriesClient {
+
+    public static final String CIRCUIT_BREAKER = "restcountries";
+    public static final String ASYNC_CIRCUIT_BREAKER = "restcountries-async";
+
+    @Inject
+    @RestClient
+    RestCountriesClient restCountriesClient;
+
+    /**
+     * Returns the country for a code, or throws {@link InvalidCountryCodeException} when
+     * RestCountries doesn't know it.
+     */
+    @Timeout(2500)
+    @Bulkhead(10)
+    @CircuitBreaker(requestVolumeThreshold = 10, failureRatio = 0.5, delay = 10000, successThreshold = 2,
+            skipOn = InvalidCountryCodeException.class)
+    @CircuitBreakerName(CIRCUIT_BREAKER)
+    public CountryData getCountryByCode(String code) {
+        List<CountryData> countries;
+        try {
+            countries = restCountriesClient.getCountryByCode(code);
+        } catch (WebApplicationException e) {
+            if (e.getResponse().getStatus() == 404) {
+                throw new InvalidCountryCodeException(code);
+            }
+            throw e;
+        }
+
+        if (countries == null || countries.isEmpty()) {
+            throw new InvalidCountryCodeException(code);
+        }
+        return countries.get(0);
+    }
+
+    /**
+     * Non-blocking variant of {@link #getCountryByCode(String)} with the same limits. It has
+     * its own circuit breaker because breaker names can't be shared between methods.
+     */
+    @AsynchronousNonBlocking
+    @Timeout(2500)
+    @Bulkhead(10)
+    @CircuitBreaker(requestVolumeThreshold = 10, failureRatio = 0.5, delay = 10000, successThreshold = 2,
+            skipOn = InvalidCountryCodeException.class)
+    @CircuitBreakerName(ASYNC_CIRCUIT_BREAKER)
+    public Uni<CountryData> getCountryByCodeAsync(String code) {
+        return restCountriesClient.getCountryByCodeAsync(code)
+                .onFailure(e -> e instanceof WebApplicationException wae && wae.getResponse().getStatus() == 404)
+                .transform(e -> new InvalidCountryCodeException(code))
+                .map(countries -> {
+                    if (countries == null || countries.isEmpty()) {
+                        throw new InvalidCountryCodeException(code);
+                    }
+                    return countries.get(0);
+                });
+    }
+}
@@ -1,6 +1,7 @@
 package com.clientmanagement.client;
 
 import com.clientmanagement.dto.country.CountryData;
+import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
@@ -21,4 +22,12 @@ public interface RestCountriesClient {
     @Path("/{code}")
     @Produces(MediaType.APPLICATION_JSON)
     List<CountryData> getCountryByCode(@PathParam("code") String code);
+
+    /**
+     * Same call without blocking the caller; used by the reactive write path.
+     */
+    @GET
+    @Path("/{code}")
+    @Produces(MediaType.APPLICATION_JSON)
+    Uni<List<CountryData>> getCountryByCodeAsync(@PathParam("code") String code);
 }
@@ -0,0 +1,106 @@
+package com.clientmanagement.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one execution.
+ *
+ * The first caller for a key runs the supplier; everyone arriving while it is still
+ * running waits on the same pending result and gets the same value or exception.
+ * Blocking ({@link #execute}) and non-blocking ({@link #executeAsync}) callers share the
+ * same flights, so either kind can join a call the other started.
+ * Nothing is remembered once the call completes -- pair it with a cache for that.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = supplier.get();
+            pending.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}: the supplier starts the call and returns
+     * its pending result. Callers arriving before it completes get the same result
+     * without starting their own.
+     */
+    public CompletionStage<V> executeAsync(K key, Supplier<? extends CompletionStage<V>> supplier) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.minimalCompletionStage();
+        }
+
+        CompletionStage<V> started;
+        try {
+            started = supplier.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, pending);
+            pending.completeExceptionally(e);
+            return pending.minimalCompletionStage();
+        }
+        started.whenComplete((value, failure) -> {
+            inFlight.remove(key, pending);
+            if (failure != null) {
+                pending.completeExceptionally(unwrap(failure));
+            } else {
+                pending.complete(value);
+            }
+        });
+        return pending.minimalCompletionStage();
+    }
+
+    static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private V await(CompletableFuture<V> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Calls that were served by another caller's execution instead of running their own.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+}
@@ -0,0 +1,53 @@
+package com.clientmanagement.dto.client;
+
+import com.clientmanagement.dto.common.FieldError;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a bulk import. {@code index} is the item's zero-based position in
+ * the request body; {@code id} is the new client's UUID when it was created.
+ */
+public class BulkImportItemResult {
+
+    public enum Status { CREATED, INVALID, DUPLICATE, FAILED }
+
+    public int index;
+    public Status status;
+    public String id;
+    public String message;
+    public List<FieldError> errors;
+
+    public BulkImportItemResult() {
+    }
+
+    public static BulkImportItemResult created(int index, String id) {
+        BulkImportItemResult result = new BulkImportItemResult();
+        result.index = index;
+        result.status = Status.CREATED;
+        result.id = id;
+        return result;
+    }
+
+    public static BulkImportItemResult invalid(int index, String message, List<FieldError> errors) {
+        BulkImportItemResult result = rejected(index, Status.INVALID, message);
+        result.errors = errors;
+        return result;
+    }
+
+    public static BulkImportItemResult duplicate(int index, String message) {
+        return rejected(index, Status.DUPLICATE, message);
+    }
+
+    public static BulkImportItemResult failed(int index, String message) {
+        return rejected(index, Status.FAILED, message);
+    }
+
+    private static BulkImportItemResult rejected(int index, Status status, String message) {
+        BulkImportItemResult result = new BulkImportItemResult();
+        result.index = index;
+        result.status = status;
+        result.message = message;
+        return result;
+    }
+}
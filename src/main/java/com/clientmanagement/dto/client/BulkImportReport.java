@@ -0,0 +1,38 @@
+package com.clientmanagement.dto.client;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Per-item report of a bulk import, in request order. Items that were not created don't
+ * affect the others: each one is reported with the reason it was rejected.
+ */
+public class BulkImportReport {
+
+    public int received;
+    public int created;
+    public int rejected;
+    public List<BulkImportItemResult> items = new ArrayList<>();
+
+    public BulkImportReport() {
+    }
+
+    public void add(BulkImportItemResult item) {
+        items.add(item);
+        if (item.status == BulkImportItemResult.Status.CREATED) {
+            created++;
+        } else {
+            rejected++;
+        }
+    }
+
+    /**
+     * Items are recorded as their batch completes; puts them back in request order.
+     */
+    public BulkImportReport complete(int received) {
+        this.received = received;
+        items.sort(Comparator.comparingInt(item -> item.index));
+        return this;
+    }
+}
@@ -0,0 +1,98 @@
+package com.clientmanagement.dto.client;
+
+import com.clientmanagement.exception.UnknownClientFieldException;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields of {@link ClientResponse}, in output order, with the JPQL path each one is read from.
+ * A {@code ?fields=} selection is a set of these: list queries select only their columns and
+ * {@link ClientResponseSerializer} writes only them.
+ */
+public enum ClientField {
+
+    ID("id", "c.uuid"),
+    FIRST_NAME("firstName", "c.firstName"),
+    SECOND_NAME("secondName", "c.secondName"),
+    FIRST_SURNAME("firstSurname", "c.firstSurname"),
+    SECOND_SURNAME("secondSurname", "c.secondSurname"),
+    FULL_NAME("fullName", "c.fullName"),
+    EMAIL("email", "c.email"),
+    ADDRESS("address", "c.address"),
+    PHONE("phone", "c.phone"),
+    COUNTRY_CODE("countryCode", "c.countryCode"),
+    DEMONYM("demonym", "c.demonym"),
+    ACTIVE("active", "c.active"),
+    CREATED_AT("createdAt", "c.createdAt"),
+    UPDATED_AT("updatedAt", "c.updatedAt");
+
+    public static final Set<ClientField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ClientField.class));
+
+    private static final Map<String, ClientField> BY_NAME = new LinkedHashMap<>();
+
+    static {
+        for (ClientField field : values()) {
+            BY_NAME.put(field.jsonName.getValue(), field);
+        }
+    }
+
+    final SerializedString jsonName;
+    private final String path;
+
+    ClientField(String jsonName, String path) {
+        this.jsonName = new SerializedString(jsonName);
+        this.path = path;
+    }
+
+    public String jsonName() {
+        return jsonName.getValue();
+    }
+
+    /**
+     * Where the field comes from in a query over {@code Client c}.
+     */
+    public String path() {
+        return path;
+    }
+
+    /**
+     * Parses a comma-separated list of JSON field names, e.g. {@code id,email,countryCode}.
+     * A missing or blank list means every field. Names are case-sensitive, like the JSON they select.
+     *
+     * @throws UnknownClientFieldException if a name isn't a {@link ClientResponse} field
+     */
+    public static Set<ClientField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<ClientField> selected = EnumSet.noneOf(ClientField.class);
+        List<String> unknown = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            ClientField field = BY_NAME.get(trimmed);
+            if (field == null) {
+                unknown.add(trimmed);
+            } else {
+                selected.add(field);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new UnknownClientFieldException(unknown, BY_NAME.keySet());
+        }
+        return selected.isEmpty() || selected.size() == ALL.size() ? ALL : Collections.unmodifiableSet(selected);
+    }
+
+    public static boolean isAll(Set<ClientField> fields) {
+        return fields == null || fields.size() == ALL.size();
+    }
+}
@@ -1,9 +1,13 @@
 package com.clientmanagement.dto.client;
 
 import com.clientmanagement.entity.Client;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
+@JsonSerialize(using = ClientResponseSerializer.class)
 public class ClientResponse {
 
     public String id;
@@ -21,17 +25,97 @@ public class ClientResponse {
     public LocalDateTime createdAt;
     public LocalDateTime updatedAt;
 
+    // Internal id, only kept to build the listing's ClientCursor
+    @JsonIgnore
+    Long rowId;
+
+    // Fields to write, from ?fields=; null writes all of them
+    @JsonIgnore
+    Set<ClientField> fields;
+
     public ClientResponse() {
     }
 
+    /**
+     * For JPQL constructor expressions ({@code select new ...ClientResponse(c.id, c.uuid, ...)}),
+     * so list queries can build responses straight from the row, without managed entities.
+     */
+    public ClientResponse(Long rowId, String id, String firstName, String secondName, String firstSurname,
+                          String secondSurname, String fullName, String email, String address, String phone,
+                          String countryCode, String demonym, boolean active, LocalDateTime createdAt,
+                          LocalDateTime updatedAt) {
+        this.rowId = rowId;
+        this.id = id;
+        this.firstName = firstName;
+        this.secondName = secondName;
+        this.firstSurname = firstSurname;
+        this.secondSurname = secondSurname;
+        this.fullName = fullName;
+        this.email = email;
+        this.address = address;
+        this.phone = phone;
+        this.countryCode = countryCode;
+        this.demonym = demonym;
+        this.active = active;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * A response holding only {@code fields}, read from a row of {@code select c.id, c.createdAt,
+     * <path of each field, in set order>}. The id and creation date are kept for the cursor.
+     */
+    public static ClientResponse fromColumns(Set<ClientField> fields, Object[] row) {
+        ClientResponse response = new ClientResponse();
+        response.rowId = (Long) row[0];
+        response.createdAt = (LocalDateTime) row[1];
+        int column = 2;
+        for (ClientField field : fields) {
+            response.set(field, row[column++]);
+        }
+        return response.only(fields);
+    }
+
+    private void set(ClientField field, Object value) {
+        switch (field) {
+            case ID -> id = (String) value;
+            case FIRST_NAME -> firstName = (String) value;
+            case SECOND_NAME -> secondName = (String) value;
+            case FIRST_SURNAME -> firstSurname = (String) value;
+            case SECOND_SURNAME -> secondSurname = (String) value;
+            case FULL_NAME -> fullName = (String) value;
+            case EMAIL -> email = (String) value;
+            case ADDRESS -> address = (String) value;
+            case PHONE -> phone = (String) value;
+            case COUNTRY_CODE -> countryCode = (String) value;
+            case DEMONYM -> demonym = (String) value;
+            case ACTIVE -> active = (Boolean) value;
+            case CREATED_AT -> createdAt = (LocalDateTime) value;
+            case UPDATED_AT -> updatedAt = (LocalDateTime) value;
+        }
+    }
+
+    /**
+     * Limits the JSON of this response to {@code fields}.
+     */
+    public ClientResponse only(Set<ClientField> fields) {
+        this.fields = ClientField.isAll(fields) ? null : fields;
+        return this;
+    }
+
+    /**
+     * Copies field references only; the full name is the one stored with the client, so mapping
+     * builds no strings and a list costs one small object per client.
+     */
     public static ClientResponse fromEntity(Client client) {
         ClientResponse response = new ClientResponse();
+        response.rowId = client.id;
         response.id = client.uuid;
         response.firstName = client.firstName;
         response.secondName = client.secondName;
         response.firstSurname = client.firstSurname;
         response.secondSurname = client.secondSurname;
-        response.fullName = client.getFullName();
+        response.fullName = client.fullName;
         response.email = client.email;
         response.address = client.address;
         response.phone = client.phone;
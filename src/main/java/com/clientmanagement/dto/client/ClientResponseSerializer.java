@@ -0,0 +1,62 @@
+package com.clientmanagement.dto.client;
+
+import com.clientmanagement.dto.common.JsonTimestamps;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Hand-written serializer for {@link ClientResponse}, the element of every client listing. It writes
+ * the same JSON as Jackson's reflective bean serializer (same field order, nulls included), but
+ * with the field names encoded once and no per-field property lookup or reflective access.
+ * A response narrowed with {@link ClientResponse#only} gets just the selected fields.
+ *
+ * Keep it in step with the fields of {@link ClientResponse} and {@link ClientField};
+ * ClientResponseSerializerTest compares both serializers.
+ */
+public class ClientResponseSerializer extends StdSerializer<ClientResponse> {
+
+    private static final ClientField[] ALL = ClientField.values();
+
+    public ClientResponseSerializer() {
+        super(ClientResponse.class);
+    }
+
+    @Override
+    public void serialize(ClientResponse client, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(client);
+        if (client.fields == null) {
+            for (ClientField field : ALL) {
+                write(field, client, gen, provider);
+            }
+        } else {
+            for (ClientField field : client.fields) {
+                write(field, client, gen, provider);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private static void write(ClientField field, ClientResponse client, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeFieldName(field.jsonName);
+        switch (field) {
+            case ID -> gen.writeString(client.id);
+            case FIRST_NAME -> gen.writeString(client.firstName);
+            case SECOND_NAME -> gen.writeString(client.secondName);
+            case FIRST_SURNAME -> gen.writeString(client.firstSurname);
+            case SECOND_SURNAME -> gen.writeString(client.secondSurname);
+            case FULL_NAME -> gen.writeString(client.fullName);
+            case EMAIL -> gen.writeString(client.email);
+            case ADDRESS -> gen.writeString(client.address);
+            case PHONE -> gen.writeString(client.phone);
+            case COUNTRY_CODE -> gen.writeString(client.countryCode);
+            case DEMONYM -> gen.writeString(client.demonym);
+            case ACTIVE -> gen.writeBoolean(client.active);
+            case CREATED_AT -> JsonTimestamps.write(gen, client.createdAt, provider);
+            case UPDATED_AT -> JsonTimestamps.write(gen, client.updatedAt, provider);
+        }
+    }
+}
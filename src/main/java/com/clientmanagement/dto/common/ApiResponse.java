@@ -1,12 +1,16 @@
 package com.clientmanagement.dto.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Generic wrapper for all API responses. Keeps a consistent structure
- * across success and error cases.
+ * across success and error cases. Written by {@link ApiResponseSerializer}.
  */
+@JsonSerialize(using = ApiResponseSerializer.class)
 public class ApiResponse<T> {
 
     public boolean success;
@@ -14,6 +18,9 @@ public class ApiResponse<T> {
     public T data;
     public LocalDateTime timestamp;
     public List<FieldError> errors;
+    // Only listings with a further page carry it; every other response leaves it out
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String nextCursor;
 
     public ApiResponse() {
         this.timestamp = LocalDateTime.now();
@@ -27,6 +34,15 @@ public class ApiResponse<T> {
         return response;
     }
 
+    /**
+     * A page of a listing; {@code nextCursor} is null, and left out of the JSON, when there are no more pages.
+     */
+    public static <T> ApiResponse<T> page(T data, String nextCursor, String message) {
+        ApiResponse<T> response = ok(data, message);
+        response.nextCursor = nextCursor;
+        return response;
+    }
+
     public static <T> ApiResponse<T> created(T data, String message) {
         ApiResponse<T> response = new ApiResponse<>();
         response.success = true;
@@ -0,0 +1,49 @@
+package com.clientmanagement.dto.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Hand-written serializer for the {@link ApiResponse} envelope, with the same output as the
+ * reflective bean serializer. {@code data} and {@code errors} go through the provider, so they use
+ * whatever serializer their runtime type has (ClientResponseSerializer for clients).
+ * {@code nextCursor} is written only when set, as its {@code @JsonInclude} asks.
+ */
+@SuppressWarnings("rawtypes")
+public class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString ERRORS = new SerializedString("errors");
+    private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+
+    public ApiResponseSerializer() {
+        super(ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(response.success);
+        gen.writeFieldName(MESSAGE);
+        gen.writeString(response.message);
+        gen.writeFieldName(DATA);
+        provider.defaultSerializeValue(response.data, gen);
+        gen.writeFieldName(TIMESTAMP);
+        JsonTimestamps.write(gen, response.timestamp, provider);
+        gen.writeFieldName(ERRORS);
+        provider.defaultSerializeValue(response.errors, gen);
+        if (response.nextCursor != null) {
+            gen.writeFieldName(NEXT_CURSOR);
+            gen.writeString(response.nextCursor);
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,67 @@
+package com.clientmanagement.dto.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes a {@link LocalDateTime} exactly as the JavaTimeModule does with the application's settings
+ * ({@code DateTimeFormatter.ISO_LOCAL_DATE_TIME}: seconds always, the fraction only when non-zero and
+ * without trailing zeros), straight into the generator instead of through a formatter and a String.
+ * Anything it doesn't cover (years outside 0000-9999, numeric timestamps) goes to the default serializer.
+ */
+public final class JsonTimestamps {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_LENGTH = 29;
+
+    private JsonTimestamps() {
+    }
+
+    public static void write(JsonGenerator gen, LocalDateTime value, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999 || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, gen);
+            return;
+        }
+
+        char[] chars = new char[MAX_LENGTH];
+        digits(chars, 0, year, 4);
+        chars[4] = '-';
+        digits(chars, 5, value.getMonthValue(), 2);
+        chars[7] = '-';
+        digits(chars, 8, value.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        digits(chars, 11, value.getHour(), 2);
+        chars[13] = ':';
+        digits(chars, 14, value.getMinute(), 2);
+        chars[16] = ':';
+        digits(chars, 17, value.getSecond(), 2);
+
+        int length = 19;
+        int nano = value.getNano();
+        if (nano > 0) {
+            chars[19] = '.';
+            digits(chars, 20, nano, 9);
+            length = MAX_LENGTH;
+            while (chars[length - 1] == '0') {
+                length--;
+            }
+        }
+        gen.writeString(chars, 0, length);
+    }
+
+    private static void digits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -1,23 +1,42 @@
 package com.clientmanagement.entity;
 
-import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Entity
 @Table(name = "clients")
-public class Client extends PanacheEntity {
-
-    @Column(name = "uuid", nullable = false, unique = true, updatable = false, length = 36)
+// The schema, indexes included, comes from the Flyway scripts in db/migration/<vendor>: one index per
+// ClientRepository query shape, uk_client_email / uk_client_phone (unique among active clients) and,
+// on SQL Server, indexes filtered on active, none of which JPA can express for both vendors
+public class Client extends PanacheEntityBase {
+
+    // Pooled-lo blocks of client.id.allocation-size ids per sequence call, see ClientIdGenerator
+    @Id
+    @GeneratedValue(generator = ClientIdGenerator.NAME)
+    @GenericGenerator(name = ClientIdGenerator.NAME, type = ClientIdGenerator.class)
+    public Long id;
+
+    // Public identifier: a UUIDv7 string in the API, 16 big-endian bytes in the database
+    @Convert(converter = UuidBinaryConverter.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "uuid", nullable = false, unique = true, updatable = false, length = 16)
     public String uuid;
 
     @NotBlank(message = "First name is required")
@@ -38,6 +57,10 @@ public class Client extends PanacheEntity {
     @Column(name = "second_surname", length = 100)
     public String secondSurname;
 
+    // Derived from the four names on insert and on any flush that changes them, see refreshFullName
+    @Column(name = "full_name", nullable = false, length = 403)
+    public String fullName;
+
     @NotBlank(message = "Email is required")
     @Email(message = "Email must be a valid email address")
     @Size(max = 255, message = "Email must not exceed 255 characters")
@@ -71,24 +94,46 @@ public class Client extends PanacheEntity {
     @Column(name = "active", nullable = false)
     public boolean active = true;
 
+    // Optimistic lock: incremented by Hibernate on every update, exposed as the ETag
+    @Version
+    @Column(name = "version", nullable = false)
+    public long version;
+
     public Client() {
     }
 
     @PrePersist
     public void prePersist() {
         if (this.uuid == null) {
-            this.uuid = UUID.randomUUID().toString();
+            this.uuid = Uuids.v7().toString();
         }
         this.active = true;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        refreshFullName();
+    }
+
+    /**
+     * Recomputes {@link #fullName}. Runs before every update Hibernate flushes, which covers any
+     * name change; the field is only reassigned when the result differs.
+     */
+    @PreUpdate
+    public void refreshFullName() {
+        String current = fullName(firstName, secondName, firstSurname, secondSurname);
+        if (!current.equals(fullName)) {
+            this.fullName = current;
+        }
     }
 
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public String getFullName() {
+    /**
+     * Names joined by single spaces, skipping the optional ones when blank. The full_name migrations
+     * backfill existing rows with the same rule.
+     */
+    public static String fullName(String firstName, String secondName, String firstSurname, String secondSurname) {
         StringBuilder fullName = new StringBuilder();
         fullName.append(firstName);
         if (secondName != null && !secondName.isBlank()) {
@@ -115,6 +160,7 @@ public class Client extends PanacheEntity {
                 ", countryCode='" + countryCode + '\'' +
                 ", demonym='" + demonym + '\'' +
                 ", active=" + active +
+                ", version=" + version +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
@@ -0,0 +1,24 @@
+package com.clientmanagement.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * Stores {@link Client#uuid} as BINARY(16) while the entity, the queries and the API keep
+ * using its string form. Query parameters compared with the attribute go through it too.
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String uuid) {
+        return uuid == null ? null : Uuids.toBytes(UUID.fromString(uuid));
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        return bytes == null ? null : Uuids.fromBytes(bytes).toString();
+    }
+}
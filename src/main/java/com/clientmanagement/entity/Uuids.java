@@ -0,0 +1,60 @@
+package com.clientmanagement.entity;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * The public client identifier: time-ordered UUIDv7 generation (RFC 9562) and the 16-byte
+ * big-endian form it is stored in.
+ */
+public final class Uuids {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final Pattern CANONICAL =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private Uuids() {
+    }
+
+    /**
+     * A new UUIDv7: 48 bits of Unix epoch milliseconds followed by 74 random bits, so ids
+     * sort by creation time and new index entries land at the end of the B-tree.
+     */
+    public static UUID v7() {
+        return v7(System.currentTimeMillis());
+    }
+
+    static UUID v7(long epochMillis) {
+        byte[] random = new byte[10];
+        RANDOM.nextBytes(random);
+        ByteBuffer bits = ByteBuffer.wrap(random);
+        long randA = bits.getShort() & 0x0fffL;
+        long randB = bits.getLong() & 0x3fffffffffffffffL;
+        long msb = (epochMillis & 0xffffffffffffL) << 16 | 0x7000L | randA;
+        long lsb = 0x8000000000000000L | randB;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Whether {@code value} is a UUID in its 36-character form. {@link UUID#fromString} also
+     * accepts shortened groups, which would let several strings name the same client.
+     */
+    public static boolean isCanonical(String value) {
+        return value != null && CANONICAL.matcher(value).matches();
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
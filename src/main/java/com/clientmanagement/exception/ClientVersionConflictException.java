@@ -0,0 +1,30 @@
+package com.clientmanagement.exception;
+
+/**
+ * An update was based on a version of the client that is no longer current: either the
+ * version named in If-Match, or the row read at the start of the transaction.
+ */
+public class ClientVersionConflictException extends RuntimeException {
+
+    private final String clientUuid;
+    private final boolean conditional;
+
+    public ClientVersionConflictException(String clientUuid, boolean conditional) {
+        super(conditional
+                ? "Client " + clientUuid + " has changed since the version in If-Match"
+                : "Client " + clientUuid + " was modified by another request, please retry");
+        this.clientUuid = clientUuid;
+        this.conditional = conditional;
+    }
+
+    public String getClientUuid() {
+        return clientUuid;
+    }
+
+    /**
+     * True if the caller asked for a specific version with If-Match.
+     */
+    public boolean isConditional() {
+        return conditional;
+    }
+}
@@ -41,6 +41,12 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
             return buildErrorResponse(Response.Status.CONFLICT, e.getMessage());
         }
 
+        if (exception instanceof ClientVersionConflictException e) {
+            LOG.warn("Version conflict: " + e.getMessage());
+            return buildErrorResponse(e.isConditional() ? Response.Status.PRECONDITION_FAILED : Response.Status.CONFLICT,
+                    e.getMessage());
+        }
+
         if (exception instanceof BadRequestException e) {
             LOG.warn("Bad request: " + e.getMessage());
             return buildErrorResponse(Response.Status.BAD_REQUEST, e.getMessage());
@@ -51,6 +57,11 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
             return buildErrorResponse(Response.Status.BAD_REQUEST, e.getMessage());
         }
 
+        if (exception instanceof UnknownClientFieldException e) {
+            LOG.warn("Unknown fields requested: " + e.getUnknownFields());
+            return buildErrorResponse(Response.Status.BAD_REQUEST, e.getMessage());
+        }
+
         if (exception instanceof CountryServiceException e) {
             LOG.error("Country service error: " + e.getMessage(), e);
             return buildErrorResponse(Response.Status.SERVICE_UNAVAILABLE,
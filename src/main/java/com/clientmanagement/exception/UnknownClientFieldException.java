@@ -0,0 +1,22 @@
+package com.clientmanagement.exception;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A {@code ?fields=} selection named fields that clients don't have.
+ */
+public class UnknownClientFieldException extends RuntimeException {
+
+    private final List<String> unknownFields;
+
+    public UnknownClientFieldException(List<String> unknownFields, Collection<String> knownFields) {
+        super("Unknown fields: " + String.join(", ", unknownFields)
+                + ". Available fields: " + String.join(", ", knownFields));
+        this.unknownFields = List.copyOf(unknownFields);
+    }
+
+    public List<String> getUnknownFields() {
+        return unknownFields;
+    }
+}
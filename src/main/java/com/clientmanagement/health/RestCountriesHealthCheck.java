@@ -0,0 +1,43 @@
+package com.clientmanagement.health;
+
+import com.clientmanagement.client.CountryService;
+import com.clientmanagement.client.ResilientCountriesClient;
+import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Reports the state of the RestCountries circuit breaker and how many lookups it refused.
+ *
+ * Always UP: known codes are answered from the bundled snapshot, so an open circuit only
+ * affects codes missing from it and shouldn't take the instance out of rotation.
+ */
+@Readiness
+@ApplicationScoped
+public class RestCountriesHealthCheck implements HealthCheck {
+
+    @Inject
+    CircuitBreakerMaintenance circuitBreakers;
+
+    @Inject
+    CountryService countryService;
+
+    @Override
+    public HealthCheckResponse call() {
+        CircuitBreakerState state = circuitBreakers.currentState(ResilientCountriesClient.CIRCUIT_BREAKER);
+        CircuitBreakerState asyncState = circuitBreakers.currentState(ResilientCountriesClient.ASYNC_CIRCUIT_BREAKER);
+        return HealthCheckResponse.named("restcountries")
+                .up()
+                .withData("circuitBreaker", state.name())
+                .withData("asyncCircuitBreaker", asyncState.name())
+                .withData("circuitOpenRejections", countryService.circuitOpenRejections())
+                .withData("bulkheadRejections", countryService.bulkheadRejections())
+                .withData("timeouts", countryService.timeouts())
+                .withData("snapshotCountries", countryService.snapshotSize())
+                .build();
+    }
+}
@@ -1,51 +1,247 @@
 package com.clientmanagement.repository;
 
+import com.clientmanagement.dto.client.ClientField;
+import com.clientmanagement.dto.client.ClientResponse;
 import com.clientmanagement.entity.Client;
+import com.clientmanagement.entity.Uuids;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class ClientRepository implements PanacheRepository<Client> {
 
-    public List<Client> findByCountryCode(String countryCode) {
-        return list("countryCode = ?1 and active = true", countryCode.toUpperCase());
+    /**
+     * Contact fields that must be unique among active clients.
+     */
+    public enum UniqueField { EMAIL, PHONE }
+
+    /**
+     * Constructor expression over every {@link ClientResponse} field. Rows selected through it
+     * are never managed: no entity instances, no dirty-checking snapshots, nothing to flush.
+     */
+    private static final String SELECT_RESPONSE = "select new com.clientmanagement.dto.client.ClientResponse("
+            + "c.id, c.uuid, c.firstName, c.secondName, c.firstSurname, c.secondSurname, c.fullName, c.email, c.address, "
+            + "c.phone, c.countryCode, c.demonym, c.active, c.createdAt, c.updatedAt) from Client c ";
+
+    public List<ClientResponse> findByCountryCode(String countryCode, Set<ClientField> fields) {
+        return selectResponses(fields, "where c.countryCode = ?1 and c.active = true", 0, countryCode.toUpperCase());
     }
 
     public Optional<Client> findActiveByUuid(String uuid) {
+        // Anything else can't be bound to the binary column, and can't name a client either
+        if (!Uuids.isCanonical(uuid)) {
+            return Optional.empty();
+        }
         return find("uuid = ?1 and active = true", uuid).firstResultOptional();
     }
 
+    /**
+     * The version of an active client, read without loading it; empty when there is no active
+     * client with that uuid. Enough to tell whether a cached copy or an entity tag is current.
+     */
+    public Optional<Long> findActiveVersionByUuid(String uuid) {
+        if (!Uuids.isCanonical(uuid)) {
+            return Optional.empty();
+        }
+        return getEntityManager()
+                .createQuery("select c.version from Client c where c.uuid = :uuid and c.active = true", Long.class)
+                .setParameter("uuid", uuid)
+                .getResultStream()
+                .findFirst();
+    }
+
     public Optional<Client> findByEmail(String email) {
         return find("email = ?1 and active = true", email.toLowerCase()).firstResultOptional();
     }
 
-    public boolean existsByEmail(String email) {
-        return count("email = ?1 and active = true", email.toLowerCase()) > 0;
+    /**
+     * Returns which of the given email and phone are already used by another active client,
+     * in a single round trip. A null email or phone is not checked; {@code excludeUuid} (may be
+     * null) leaves out the client being updated. Each branch of the UNION is a seek on
+     * uk_client_email / uk_client_phone, so at most two rows come back.
+     */
+    public Set<UniqueField> findDuplicateFields(String email, String phone, String excludeUuid) {
+        Set<UniqueField> duplicates = EnumSet.noneOf(UniqueField.class);
+        if (email == null && phone == null) {
+            return duplicates;
+        }
+
+        String notSelf = excludeUuid != null ? " and uuid <> :uuid" : "";
+        StringBuilder hql = new StringBuilder();
+        if (email != null) {
+            hql.append("select 'EMAIL' from Client where email = :email and active = true").append(notSelf);
+        }
+        if (phone != null) {
+            if (email != null) {
+                hql.append(" union all ");
+            }
+            hql.append("select 'PHONE' from Client where phone = :phone and active = true").append(notSelf);
+        }
+
+        TypedQuery<String> query = getEntityManager().createQuery(hql.toString(), String.class);
+        if (email != null) {
+            query.setParameter("email", email.toLowerCase());
+        }
+        if (phone != null) {
+            query.setParameter("phone", phone);
+        }
+        if (excludeUuid != null) {
+            query.setParameter("uuid", excludeUuid);
+        }
+        for (String field : query.getResultList()) {
+            duplicates.add(UniqueField.valueOf(field));
+        }
+        return duplicates;
     }
 
-    public boolean existsByEmailAndUuidNot(String email, String excludeUuid) {
-        return count("email = ?1 and uuid != ?2 and active = true", email.toLowerCase(), excludeUuid) > 0;
+    /**
+     * Set-wise version of {@link #findDuplicateFields} for bulk imports: returns, per field, which
+     * of the given (normalized) emails and phones are already used by an active client. One
+     * round trip with an {@code IN} list per field; keep each collection well under the
+     * driver's parameter limit (2100 on SQL Server).
+     */
+    public Map<UniqueField, Set<String>> findTakenContacts(Collection<String> emails, Collection<String> phones) {
+        Map<UniqueField, Set<String>> taken = new EnumMap<>(UniqueField.class);
+        taken.put(UniqueField.EMAIL, new HashSet<>());
+        taken.put(UniqueField.PHONE, new HashSet<>());
+        if (emails.isEmpty() && phones.isEmpty()) {
+            return taken;
+        }
+
+        StringBuilder hql = new StringBuilder();
+        if (!emails.isEmpty()) {
+            hql.append("select 'EMAIL', email from Client where email in :emails and active = true");
+        }
+        if (!phones.isEmpty()) {
+            if (!emails.isEmpty()) {
+                hql.append(" union all ");
+            }
+            hql.append("select 'PHONE', phone from Client where phone in :phones and active = true");
+        }
+
+        TypedQuery<Object[]> query = getEntityManager().createQuery(hql.toString(), Object[].class);
+        if (!emails.isEmpty()) {
+            query.setParameter("emails", emails);
+        }
+        if (!phones.isEmpty()) {
+            query.setParameter("phones", phones);
+        }
+        for (Object[] row : query.getResultList()) {
+            taken.get(UniqueField.valueOf((String) row[0])).add((String) row[1]);
+        }
+        return taken;
     }
 
-    public boolean existsByPhone(String phone) {
-        return count("phone = ?1 and active = true", phone) > 0;
+    /**
+     * Returns up to {@code limit} active clients, newest first, starting after the given
+     * (createdAt, id) position, or from the top when {@code afterId} is null. Seeks on the
+     * sort key instead of using OFFSET, so deep pages cost the same as the first one.
+     */
+    public List<ClientResponse> findPageOrderByCreatedAtDesc(LocalDateTime afterCreatedAt, Long afterId, int limit,
+                                                             Set<ClientField> fields) {
+        return afterId == null
+                ? selectResponses(fields, "where c.active = true order by c.createdAt desc, c.id desc", limit)
+                : selectResponses(fields, "where c.active = true and (c.createdAt < ?1 or (c.createdAt = ?1 and c.id < ?2)) "
+                        + "order by c.createdAt desc, c.id desc", limit, afterCreatedAt, afterId);
     }
 
-    public boolean existsByPhoneAndUuidNot(String phone, String excludeUuid) {
-        return count("phone = ?1 and uuid != ?2 and active = true", phone, excludeUuid) > 0;
+    /**
+     * Runs {@code clauses} over {@code Client c} and returns one response per row. Every field goes
+     * through the constructor expression; a narrower selection reads only its own columns, plus
+     * the id and creation date a cursor needs, so less is read, sent and serialized.
+     *
+     * @param limit maximum rows, or 0 for all
+     */
+    private List<ClientResponse> selectResponses(Set<ClientField> fields, String clauses, int limit, Object... params) {
+        if (ClientField.isAll(fields)) {
+            return resultList(getEntityManager().createQuery(SELECT_RESPONSE + clauses, ClientResponse.class),
+                    limit, params);
+        }
+
+        StringBuilder select = new StringBuilder("select c.id, c.createdAt");
+        for (ClientField field : fields) {
+            select.append(", ").append(field.path());
+        }
+        List<Object[]> rows = resultList(getEntityManager().createQuery(select + " from Client c " + clauses, Object[].class),
+                limit, params);
+        List<ClientResponse> responses = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            responses.add(ClientResponse.fromColumns(fields, row));
+        }
+        return responses;
     }
 
-    public List<Client> findAllOrderByCreatedAtDesc() {
-        return list("active = true ORDER BY createdAt DESC");
+    private static <T> List<T> resultList(TypedQuery<T> query, int limit, Object... params) {
+        for (int i = 0; i < params.length; i++) {
+            query.setParameter(i + 1, params[i]);
+        }
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Streams all active clients by id through a forward-only cursor, {@code fetchSize} rows
+     * per round trip. Must be consumed inside a transaction and closed afterwards.
+     */
+    public Stream<Client> streamAllActive(int fetchSize) {
+        return find("active = true ORDER BY id")
+                .withHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * Streams the (email, phone) pair of every active client through a forward-only cursor,
+     * without loading entities. Must be consumed inside a transaction and closed afterwards.
+     */
+    public Stream<Object[]> streamActiveContacts(int fetchSize) {
+        return getEntityManager()
+                .createQuery("select email, phone from Client where active = true", Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Detaches every entity loaded so far in the current persistence context.
+     */
+    public void clearPersistenceContext() {
+        getEntityManager().clear();
     }
 
     public long countActive() {
         return count("active = true");
     }
 
+    /**
+     * Active clients per country code, in one pass over idx_clients_active_country_code.
+     */
+    public Map<String, Long> countActiveGroupedByCountryCode() {
+        Map<String, Long> counts = new HashMap<>();
+        getEntityManager()
+                .createQuery("select countryCode, count(*) from Client where active = true group by countryCode", Object[].class)
+                .getResultList()
+                .forEach(row -> counts.put((String) row[0], (Long) row[1]));
+        return counts;
+    }
+
     public long countActiveByCountryCode(String countryCode) {
         return count("countryCode = ?1 and active = true", countryCode.toUpperCase());
     }
@@ -0,0 +1,49 @@
+package com.clientmanagement.resource;
+
+import com.clientmanagement.entity.Client;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.EntityTag;
+
+/**
+ * Entity tags of single clients: the optimistic-lock version, as a strong tag. It changes
+ * with every update and delete, so it validates cached copies and guards conditional writes.
+ */
+final class ClientETags {
+
+    // Parsed from tags that can't name a version; no client ever has it, so If-Match fails
+    static final long NO_VERSION = -1;
+
+    private ClientETags() {
+    }
+
+    static EntityTag of(Client client) {
+        return of(client.version);
+    }
+
+    static EntityTag of(long version) {
+        return new EntityTag(Long.toString(version));
+    }
+
+    /**
+     * The version an If-Match header asks for, or null when there is no header or it is
+     * {@code *} (any current version; the client has to exist either way). Weak or foreign tags
+     * never match, as If-Match uses strong comparison. Lists of several tags aren't supported.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        if (ifMatch.indexOf(',') >= 0) {
+            throw new BadRequestException("If-Match must be a single entity tag or *");
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return NO_VERSION;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return NO_VERSION;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.clientmanagement.resource;
+
+import com.clientmanagement.dto.client.ClientField;
+import com.clientmanagement.dto.client.ClientResponse;
+import com.clientmanagement.entity.Client;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.EntityTag;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serialized {@link ClientResponse} JSON per client version, for {@code GET /api/v1/clients/{uuid}}.
+ *
+ * A version is identified by its strong {@link ClientETags entity tag}, the optimistic-lock
+ * version that every write moves forward. Entries are keyed by uuid and only reused while their tag still matches
+ * the client, so writes never have to evict anything here. The bytes are handed to Jackson as a
+ * {@link RawValue} for the {@code data} of a fresh {@code ApiResponse}, so a repeated read only
+ * serializes the small envelope around them.
+ */
+@ApplicationScoped
+public class ClientRepresentationCache {
+
+    // Share of the entries dropped at once when the cache overflows
+    private static final double EVICTION_BATCH = 0.1;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "client.cache.max-size", defaultValue = "10000")
+    int maxSize;
+
+    private ObjectWriter writer;
+
+    private final Map<String, Representation> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder rendered = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    private record Representation(EntityTag tag, RawValue json) {
+    }
+
+    @PostConstruct
+    void init() {
+        writer = objectMapper.writerFor(ClientResponse.class);
+        Gauge.builder("client.representations.size", entries, Map::size)
+                .description("Serialized clients held for single-client reads")
+                .register(meterRegistry);
+        FunctionCounter.builder("client.representations", reused, LongAdder::sum)
+                .tag("result", "reused")
+                .description("Single-client reads answered with already serialized JSON")
+                .register(meterRegistry);
+        FunctionCounter.builder("client.representations", rendered, LongAdder::sum)
+                .tag("result", "rendered")
+                .description("Single-client reads that had to serialize the client")
+                .register(meterRegistry);
+        FunctionCounter.builder("client.representations", notModified, LongAdder::sum)
+                .tag("result", "not-modified")
+                .description("Single-client reads answered with 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The client's JSON for its current version, serialized on first use. Only the full
+     * representation is kept; a {@code ?fields=} selection is serialized on every read.
+     */
+    public RawValue json(Client client, EntityTag tag, Set<ClientField> fields) {
+        if (!ClientField.isAll(fields)) {
+            rendered.increment();
+            return render(ClientResponse.fromEntity(client).only(fields));
+        }
+        Representation current = entries.get(client.uuid);
+        if (current != null && current.tag.equals(tag)) {
+            reused.increment();
+            return current.json;
+        }
+        rendered.increment();
+        RawValue json = render(ClientResponse.fromEntity(client));
+        entries.put(client.uuid, new Representation(tag, json));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+        return json;
+    }
+
+    public void recordNotModified() {
+        notModified.increment();
+    }
+
+    private RawValue render(ClientResponse client) {
+        try {
+            return new RawValue(new SerializedString(writer.writeValueAsString(client)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Drops arbitrary entries (map iteration order) until the cache is {@link #EVICTION_BATCH}
+     * below its maximum size. Hot clients come back on their next read, at the cost of one render.
+     */
+    private synchronized void evict() {
+        int excess = entries.size() - (int) (maxSize * (1 - EVICTION_BATCH));
+        Iterator<String> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -1,18 +1,38 @@
 package com.clientmanagement.resource;
 
+import com.clientmanagement.dto.client.BulkImportReport;
+import com.clientmanagement.dto.client.ClientField;
 import com.clientmanagement.dto.client.ClientResponse;
 import com.clientmanagement.dto.client.CreateClientRequest;
 import com.clientmanagement.dto.client.UpdateClientRequest;
 import com.clientmanagement.dto.common.ApiResponse;
 import com.clientmanagement.entity.Client;
+import com.clientmanagement.service.ClientPage;
 import com.clientmanagement.service.ClientService;
+import com.clientmanagement.service.WritePath;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.quarkus.virtual.threads.VirtualThreads;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ThreadContext;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -23,9 +43,13 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jboss.logging.Logger;
 
-import java.net.URI;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 @Path("/api/v1/clients")
 @Produces(MediaType.APPLICATION_JSON)
@@ -35,12 +59,40 @@ public class ClientResource {
 
     private static final Logger LOG = Logger.getLogger(ClientResource.class);
 
+    static final String NDJSON = "application/x-ndjson";
+
     @Inject
     ClientService clientService;
 
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    ClientRepresentationCache representations;
+
+    @Inject
+    @VirtualThreads
+    ExecutorService virtualThreads;
+
+    @Inject
+    ThreadContext threadContext;
+
+    @ConfigProperty(name = "client.write-path", defaultValue = "blocking")
+    WritePath writePath;
+
     @Context
     UriInfo uriInfo;
 
+    @Context
+    Request httpRequest;
+
+    private ObjectWriter clientWriter;
+
+    @PostConstruct
+    void init() {
+        clientWriter = objectMapper.writerFor(ClientResponse.class);
+    }
+
     @POST
     @Operation(summary = "Create a new client", description = "Creates a new client with the provided information. The demonym is automatically fetched based on the country code.")
     @APIResponses({
@@ -49,55 +101,124 @@ public class ClientResource {
         @APIResponse(responseCode = "400", description = "Invalid request data"),
         @APIResponse(responseCode = "409", description = "Email already exists")
     })
-    public Response createClient(@Valid CreateClientRequest request) {
+    public Uni<Response> createClient(@Valid CreateClientRequest request) {
         LOG.info("Received request to create new client");
 
-        Client client = clientService.createClient(request);
-        ClientResponse clientResponse = ClientResponse.fromEntity(client);
+        // Resolve the base URI now, while we're still on the request thread
+        UriBuilder location = uriInfo.getAbsolutePathBuilder();
 
-        URI location = uriInfo.getAbsolutePathBuilder()
-                .path(client.uuid)
-                .build();
+        Uni<Client> created = writePath == WritePath.REACTIVE
+                ? clientService.createClientAsync(request)
+                : blocking(() -> clientService.createClient(request));
 
-        ApiResponse<ClientResponse> response = ApiResponse.created(clientResponse, "Client created successfully");
-        return Response.created(location).entity(response).build();
+        return created.map(client -> {
+            ClientResponse clientResponse = ClientResponse.fromEntity(client);
+            ApiResponse<ClientResponse> response = ApiResponse.created(clientResponse, "Client created successfully");
+            return Response.created(location.path(client.uuid).build()).entity(response).build();
+        });
+    }
+
+    @POST
+    @Path("/bulk")
+    @Consumes({MediaType.APPLICATION_JSON, NDJSON})
+    @Operation(summary = "Import clients in bulk", description = "Creates many clients from a JSON array or newline-delimited JSON of CreateClientRequest objects. Each item is validated and checked for duplicates on its own; the response reports the outcome of every item in request order.")
+    @APIResponses({
+        @APIResponse(responseCode = "200", description = "Import processed, see the per-item results",
+                content = @Content(schema = @Schema(implementation = BulkImportReport.class))),
+        @APIResponse(responseCode = "400", description = "Body is not a JSON array or NDJSON stream")
+    })
+    @RunOnVirtualThread
+    public Response importClients(InputStream body) {
+        LOG.info("Received request to import clients in bulk");
+
+        BulkImportReport report;
+        try (MappingIterator<CreateClientRequest> requests =
+                     objectMapper.readerFor(CreateClientRequest.class).readValues(body)) {
+            report = clientService.importClients(requests);
+        } catch (IOException e) {
+            throw new BadRequestException("Request body must be a JSON array or newline-delimited JSON of clients");
+        }
+
+        String message = report.created + " of " + report.received + " clients imported";
+        return Response.ok(ApiResponse.ok(report, message)).build();
     }
 
     @GET
-    @Operation(summary = "Get all clients", description = "Retrieves all active clients ordered by creation date")
-    @APIResponse(responseCode = "200", description = "Clients retrieved successfully",
-            content = @Content(schema = @Schema(implementation = ClientResponse.class, type = SchemaType.ARRAY)))
-    public Response getAllClients() {
+    @Operation(summary = "Get all clients", description = "Retrieves active clients ordered by creation date, newest first, one page at a time. Pass the returned nextCursor to get the following page.")
+    @APIResponses({
+        @APIResponse(responseCode = "200", description = "Clients retrieved successfully",
+                content = @Content(schema = @Schema(implementation = ClientResponse.class, type = SchemaType.ARRAY))),
+        @APIResponse(responseCode = "400", description = "Invalid cursor, limit or fields")
+    })
+    @RunOnVirtualThread
+    public Response getAllClients(
+            @Parameter(description = "Continuation token from the previous page's nextCursor")
+            @QueryParam("cursor") String cursor,
+            @Parameter(description = "Page size (default 50, max 200)")
+            @QueryParam("limit") Integer limit,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,email,countryCode (default: all)")
+            @QueryParam("fields") String fields) {
         LOG.info("Received request to get all clients");
 
-        List<ClientResponse> clients = clientService.getAllClients().stream()
-                .map(ClientResponse::fromEntity)
-                .collect(Collectors.toList());
+        ClientPage page = clientService.getClientsPage(cursor, limit, ClientField.parse(fields));
 
-        ApiResponse<List<ClientResponse>> response = ApiResponse.ok(clients, "Clients retrieved successfully");
+        ApiResponse<List<ClientResponse>> response = ApiResponse.page(page.clients(), page.nextCursor(), "Clients retrieved successfully");
         return Response.ok(response).build();
     }
 
+    @GET
+    @Path("/export")
+    @Produces(NDJSON)
+    @Operation(summary = "Export all clients", description = "Streams every active client as newline-delimited JSON (one ClientResponse per line) in insertion order. Meant for bulk consumers; the list is never held in memory.")
+    @APIResponse(responseCode = "200", description = "Clients streamed successfully",
+            content = @Content(mediaType = NDJSON, schema = @Schema(implementation = ClientResponse.class)))
+    @RunOnVirtualThread
+    public Response exportClients(
+            @Parameter(description = "Comma-separated fields to return, e.g. id,email,countryCode (default: all)")
+            @QueryParam("fields") String fields) {
+        LOG.info("Received request to export all clients");
+
+        Set<ClientField> selected = ClientField.parse(fields);
+
+        StreamingOutput body = output -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                long written = clientService.forEachActiveClient(client -> {
+                    try {
+                        clientWriter.writeValue(generator, ClientResponse.fromEntity(client).only(selected));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                LOG.debug("Streamed " + written + " clients");
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return Response.ok(body, NDJSON).build();
+    }
+
     @GET
     @Path("/country/{countryCode}")
     @Operation(summary = "Get clients by country", description = "Retrieves all clients from a specific country using the ISO 3166-1 alpha-2 country code")
     @APIResponses({
         @APIResponse(responseCode = "200", description = "Clients retrieved successfully",
                 content = @Content(schema = @Schema(implementation = ClientResponse.class, type = SchemaType.ARRAY))),
-        @APIResponse(responseCode = "400", description = "Invalid country code format")
+        @APIResponse(responseCode = "400", description = "Invalid country code format or fields")
     })
+    @RunOnVirtualThread
     public Response getClientsByCountry(
             @Parameter(description = "ISO 3166-1 alpha-2 country code (e.g., US, MX, ES)", required = true)
-            @PathParam("countryCode") String countryCode) {
+            @PathParam("countryCode") String countryCode,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,email,countryCode (default: all)")
+            @QueryParam("fields") String fields) {
         LOG.info("Received request to get clients from country: " + countryCode);
 
         if (countryCode == null || !countryCode.matches("^[A-Za-z]{2}$")) {
             throw new BadRequestException("Country code must be a valid ISO 3166-1 alpha-2 code (2 letters)");
         }
 
-        List<ClientResponse> clients = clientService.getClientsByCountry(countryCode).stream()
-                .map(ClientResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<ClientResponse> clients = clientService.getClientsByCountry(countryCode, ClientField.parse(fields));
 
         ApiResponse<List<ClientResponse>> response = ApiResponse.ok(clients, "Clients retrieved successfully");
         return Response.ok(response).build();
@@ -105,45 +226,74 @@ public class ClientResource {
 
     @GET
     @Path("/{uuid}")
-    @Operation(summary = "Get client by ID", description = "Retrieves a specific client by their UUID")
+    @Operation(summary = "Get client by ID", description = "Retrieves a specific client by their UUID. "
+            + "The response carries an ETag; send it back in If-None-Match to get 304 while the client is unchanged.")
     @APIResponses({
         @APIResponse(responseCode = "200", description = "Client retrieved successfully",
                 content = @Content(schema = @Schema(implementation = ClientResponse.class))),
+        @APIResponse(responseCode = "304", description = "Client unchanged since the ETag in If-None-Match"),
+        @APIResponse(responseCode = "400", description = "Unknown fields"),
         @APIResponse(responseCode = "404", description = "Client not found")
     })
+    @RunOnVirtualThread
     public Response getClientByUuid(
             @Parameter(description = "Client UUID", required = true)
-            @PathParam("uuid") String uuid) {
+            @PathParam("uuid") String uuid,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,email,countryCode (default: all)")
+            @QueryParam("fields") String fields,
+            @Parameter(description = "ETag of the client version the caller already has")
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
         LOG.info("Received request to get client with uuid: " + uuid);
 
+        Set<ClientField> selected = ClientField.parse(fields);
+        if (ifNoneMatch != null) {
+            // The tag is the version, so a 304 needs only the cached client or the version column
+            Response.ResponseBuilder notModified =
+                    httpRequest.evaluatePreconditions(ClientETags.of(clientService.getClientVersion(uuid)));
+            if (notModified != null) {
+                representations.recordNotModified();
+                return notModified.build();
+            }
+        }
+
+        // Usually answered by the client cache
         Client client = clientService.getClientByUuid(uuid);
-        ClientResponse clientResponse = ClientResponse.fromEntity(client);
+        EntityTag tag = ClientETags.of(client);
 
-        ApiResponse<ClientResponse> response = ApiResponse.ok(clientResponse, "Client retrieved successfully");
-        return Response.ok(response).build();
+        ApiResponse<RawValue> response = ApiResponse.ok(representations.json(client, tag, selected), "Client retrieved successfully");
+        return Response.ok(response).tag(tag).build();
     }
 
     @PATCH
     @Path("/{uuid}")
-    @Operation(summary = "Update client", description = "Partially updates an existing client. Only email, address, phone, and country code can be modified.")
+    @Operation(summary = "Update client", description = "Partially updates an existing client. Only email, address, phone, and country code can be modified. "
+            + "Send the ETag of the version you read in If-Match to make the update fail with 412 if the client changed since.")
     @APIResponses({
         @APIResponse(responseCode = "200", description = "Client updated successfully",
                 content = @Content(schema = @Schema(implementation = ClientResponse.class))),
         @APIResponse(responseCode = "400", description = "Invalid request data"),
         @APIResponse(responseCode = "404", description = "Client not found"),
-        @APIResponse(responseCode = "409", description = "Email already exists")
+        @APIResponse(responseCode = "409", description = "Email already exists, or a concurrent update won"),
+        @APIResponse(responseCode = "412", description = "Client changed since the ETag in If-Match")
     })
-    public Response updateClient(
+    public Uni<Response> updateClient(
             @Parameter(description = "Client UUID", required = true)
             @PathParam("uuid") String uuid,
+            @Parameter(description = "ETag of the client version this update is based on")
+            @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
             @Valid UpdateClientRequest request) {
         LOG.info("Received request to update client with uuid: " + uuid);
 
-        Client client = clientService.updateClient(uuid, request);
-        ClientResponse clientResponse = ClientResponse.fromEntity(client);
+        Long expectedVersion = ClientETags.expectedVersion(ifMatch);
+        Uni<Client> updated = writePath == WritePath.REACTIVE
+                ? clientService.updateClientAsync(uuid, request, expectedVersion)
+                : blocking(() -> clientService.updateClient(uuid, request, expectedVersion));
 
-        ApiResponse<ClientResponse> response = ApiResponse.ok(clientResponse, "Client updated successfully");
-        return Response.ok(response).build();
+        return updated.map(client -> {
+            ClientResponse clientResponse = ClientResponse.fromEntity(client);
+            ApiResponse<ClientResponse> response = ApiResponse.ok(clientResponse, "Client updated successfully");
+            return Response.ok(response).tag(ClientETags.of(client)).build();
+        });
     }
 
     @DELETE
@@ -153,6 +303,7 @@ public class ClientResource {
         @APIResponse(responseCode = "200", description = "Client deactivated successfully"),
         @APIResponse(responseCode = "404", description = "Client not found")
     })
+    @RunOnVirtualThread
     public Response deleteClient(
             @Parameter(description = "Client UUID", required = true)
             @PathParam("uuid") String uuid) {
@@ -168,9 +319,40 @@ public class ClientResource {
     @Path("/count")
     @Operation(summary = "Get client count", description = "Returns the total number of active clients")
     @APIResponse(responseCode = "200", description = "Count retrieved successfully")
+    @RunOnVirtualThread
     public Response getClientCount() {
         long count = clientService.countClients();
         ApiResponse<Long> response = ApiResponse.ok(count, "Client count retrieved successfully");
         return Response.ok(response).build();
     }
+
+    @GET
+    @Path("/country/{countryCode}/count")
+    @Operation(summary = "Get client count by country", description = "Returns the number of active clients from a specific country")
+    @APIResponses({
+        @APIResponse(responseCode = "200", description = "Count retrieved successfully"),
+        @APIResponse(responseCode = "400", description = "Invalid country code format")
+    })
+    @RunOnVirtualThread
+    public Response getClientCountByCountry(
+            @Parameter(description = "ISO 3166-1 alpha-2 country code (e.g., US, MX, ES)", required = true)
+            @PathParam("countryCode") String countryCode) {
+        if (countryCode == null || !countryCode.matches("^[A-Za-z]{2}$")) {
+            throw new BadRequestException("Country code must be a valid ISO 3166-1 alpha-2 code (2 letters)");
+        }
+
+        long count = clientService.countClientsByCountry(countryCode);
+        ApiResponse<Long> response = ApiResponse.ok(count, "Client count retrieved successfully");
+        return Response.ok(response).build();
+    }
+
+    /**
+     * Runs the existing blocking service call off the event loop, so both write paths can
+     * share the same non-blocking resource signature. Like the {@code @RunOnVirtualThread}
+     * endpoints, it uses a virtual thread when {@code quarkus.virtual-threads.enabled=true}
+     * and a worker thread otherwise. The request context is carried over for the ORM session.
+     */
+    private <T> Uni<T> blocking(Supplier<T> call) {
+        return Uni.createFrom().item(threadContext.contextualSupplier(call)).runSubscriptionOn(virtualThreads);
+    }
 }
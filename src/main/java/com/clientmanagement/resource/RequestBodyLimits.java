@@ -0,0 +1,54 @@
+package com.clientmanagement.resource;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.vertx.http.runtime.RouteConstants;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Request body limits per route. Quarkus rejects bodies over {@code quarkus.http.limits.max-body-size}
+ * before any routing, so that limit is set to the largest one, {@code client.bulk.max-body-size} for
+ * {@code POST /api/v1/clients/bulk}. This filter runs right after Quarkus's check and holds every
+ * other route to {@code client.http.max-body-size} (Quarkus's own default) the same way: a declared
+ * Content-Length over the limit gets a 413, and a chunked body carries the limit to RESTEasy Reactive,
+ * which stops reading once it is exceeded.
+ */
+@ApplicationScoped
+public class RequestBodyLimits {
+
+    static final String BULK_PATH = "/api/v1/clients/bulk";
+
+    @ConfigProperty(name = "client.http.max-body-size", defaultValue = "10240K")
+    MemorySize defaultLimit;
+
+    void register(@Observes Router router) {
+        long limit = defaultLimit.asLongValue();
+        router.route().order(RouteConstants.ROUTE_ORDER_UPLOAD_LIMIT + 1).handler(context -> limit(context, limit));
+    }
+
+    private static void limit(RoutingContext context, long limit) {
+        if (BULK_PATH.equals(context.normalizedPath())) {
+            context.next();
+            return;
+        }
+        String length = context.request().getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (length == null) {
+            context.put(VertxHttpRecorder.MAX_REQUEST_SIZE_KEY, limit);
+        } else if (Long.parseLong(length) > limit) {
+            // Like Quarkus's own check: answer without reading the body, then drop the connection
+            HttpServerResponse response = context.response();
+            response.putHeader(HttpHeaders.CONNECTION, HttpHeaders.CLOSE);
+            response.setStatusCode(413);
+            response.endHandler(done -> context.request().connection().close());
+            response.end();
+            return;
+        }
+        context.next();
+    }
+}
@@ -0,0 +1,201 @@
+package com.clientmanagement.service;
+
+import com.clientmanagement.entity.Client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded read-through cache of active clients, keyed by their public uuid.
+ *
+ * Only active clients are stored, and misses (unknown or deleted uuids) are not cached, so a
+ * client created a moment ago is found right away. Writers call {@link #invalidate} for the
+ * uuid they change; a load that started before an invalidation of the same uuid is not stored,
+ * so a read racing an update can't put the old row back.
+ *
+ * Hits are served from memory without touching the database. Invalidations only reach the
+ * instance that made the write, so with several instances another one can serve an updated
+ * or deleted client until its entry expires after {@code ttl}; that is the staleness bound.
+ *
+ * Cached clients are shared between callers and must be treated as read-only.
+ */
+public class ClientCache {
+
+    private static final int STRIPES = 1024;
+    // Share of the entries dropped at once when the cache overflows, so eviction isn't paid on every put
+    private static final double EVICTION_BATCH = 0.1;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Per-stripe invalidation counters, compared before and after a load
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ClientCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    ClientCache(int maxSize, Duration ttl, LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached client, or loads it with {@code loader} and caches it if it is active.
+     */
+    public Optional<Client> get(String uuid, Function<String, Optional<Client>> loader) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(uuid);
+        if (entry != null && now < entry.expiresAt) {
+            hits.increment();
+            entry.lastAccess = now;
+            return Optional.of(entry.client);
+        }
+
+        misses.increment();
+        int stripe = stripe(uuid);
+        long generation = generations.get(stripe);
+        Optional<Client> loaded = loader.apply(uuid);
+        loaded.filter(client -> client.active).ifPresent(client -> store(uuid, client, stripe, generation));
+        return loaded;
+    }
+
+    /**
+     * Returns the cached client without loading it on a miss. Doesn't count as a hit or miss,
+     * for callers that go on to {@link #get} when the cached client isn't enough.
+     */
+    public Optional<Client> peek(String uuid) {
+        Entry entry = entries.get(uuid);
+        if (entry == null || clock.getAsLong() >= entry.expiresAt) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.client);
+    }
+
+    private void store(String uuid, Client client, int stripe, long generation) {
+        if (generations.get(stripe) != generation) {
+            return;
+        }
+        long now = clock.getAsLong();
+        Entry fresh = new Entry(client, now, now + ttlNanos);
+        entries.put(uuid, fresh);
+        if (generations.get(stripe) != generation) {
+            // Invalidated between the check and the put; the row we loaded may be outdated
+            entries.remove(uuid, fresh);
+            return;
+        }
+        puts.increment();
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Drops the client and makes loads already in flight for it skip the cache.
+     */
+    public void invalidate(String uuid) {
+        generations.incrementAndGet(stripe(uuid));
+        entries.remove(uuid);
+        invalidations.increment();
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        entries.clear();
+    }
+
+    /**
+     * Drops expired entries, then the least recently read ones, until the cache is
+     * {@link #EVICTION_BATCH} below its maximum size.
+     */
+    private synchronized void evict() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        long now = clock.getAsLong();
+        entries.entrySet().removeIf(e -> {
+            boolean expired = now >= e.getValue().expiresAt;
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+
+        int target = (int) (maxSize * (1 - EVICTION_BATCH));
+        int excess = entries.size() - target;
+        if (excess <= 0) {
+            return;
+        }
+        long[] accessTimes = entries.values().stream().mapToLong(e -> e.lastAccess).toArray();
+        Arrays.sort(accessTimes);
+        long cutoff = accessTimes[Math.min(excess, accessTimes.length) - 1];
+        entries.entrySet().removeIf(e -> {
+            boolean old = e.getValue().lastAccess <= cutoff;
+            if (old) {
+                evictions.increment();
+            }
+            return old;
+        });
+    }
+
+    private static int stripe(String uuid) {
+        return Math.floorMod(uuid.hashCode(), STRIPES);
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    private static final class Entry {
+        final Client client;
+        final long expiresAt;
+        volatile long lastAccess;
+
+        Entry(Client client, long storedAt, long expiresAt) {
+            this.client = client;
+            this.lastAccess = storedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
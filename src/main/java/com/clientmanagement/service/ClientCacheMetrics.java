@@ -0,0 +1,56 @@
+package com.clientmanagement.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes {@link ClientCache} statistics using Micrometer's standard cache meter names
+ * ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size}),
+ * plus a counter of entries dropped by writes.
+ */
+class ClientCacheMetrics extends CacheMeterBinder<ClientCache> {
+
+    ClientCacheMetrics(ClientCache cache, String cacheName) {
+        super(cache, cacheName, Tags.empty());
+    }
+
+    @Override
+    protected Long size() {
+        ClientCache cache = getCache();
+        return cache == null ? null : cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        ClientCache cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        ClientCache cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        ClientCache cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        ClientCache cache = getCache();
+        return cache == null ? 0 : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("cache.invalidations", getCache(), ClientCache::invalidationCount)
+                .tags(getTagsWithCacheName())
+                .description("Entries dropped because the client was updated or deleted")
+                .register(registry);
+    }
+}
@@ -0,0 +1,301 @@
+package com.clientmanagement.service;
+
+import com.clientmanagement.repository.ClientRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.Startup;
+import io.vertx.core.Vertx;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Active-client counts kept in memory, so the count endpoints don't scan the table.
+ *
+ * Loaded with one grouped query on a background thread at startup. {@link ClientService} then
+ * reports every create, soft delete and country change, applied once its transaction commits.
+ * Writes made by other instances, or directly in the database, aren't seen, so every
+ * {@code reconcile-interval} the counts are compared with the database and corrected. The drift
+ * found is logged and published as {@code client.counters.*} metrics. Until the first load
+ * finishes, {@link #total} and {@link #forCountry} are empty and callers count in the database.
+ *
+ * A count taken while one of our own writes commits can't tell whether it saw that write, so it
+ * is only swapped in if no write was committing when the query started and none began before it
+ * returned; otherwise the query is run again, up to {@link #RECONCILE_ATTEMPTS} times.
+ */
+@Startup
+@ApplicationScoped
+public class ClientCounters {
+
+    private static final Logger LOG = Logger.getLogger(ClientCounters.class);
+
+    static final int RECONCILE_ATTEMPTS = 3;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @Inject
+    ManagedExecutor executor;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "client.counters.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "client.counters.reconcile-interval", defaultValue = "5m")
+    Duration reconcileInterval;
+
+    private final Map<String, AtomicLong> byCountry = new ConcurrentHashMap<>();
+    private final AtomicLong total = new AtomicLong();
+    private volatile boolean ready;
+
+    // Guards applying deltas against a reconciliation swapping in corrected values
+    private final Object lock = new Object();
+    // Writes that started committing, and those of them that haven't finished; both under lock
+    private long writeSequence;
+    private int committing;
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+    private long timerId = -1;
+
+    private final LongAdder inSync = new LongAdder();
+    private final LongAdder corrected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private volatile long lastDrift;
+    private volatile long lastReconcileMillis;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            LOG.info("Client counters disabled, counts go to the database");
+            return;
+        }
+        registerMetrics();
+        reconcile();
+        timerId = vertx.setPeriodic(reconcileInterval.toMillis(), id -> reconcile());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (timerId >= 0) {
+            vertx.cancelTimer(timerId);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public OptionalLong total() {
+        return ready ? OptionalLong.of(total.get()) : OptionalLong.empty();
+    }
+
+    /**
+     * Active clients with this (upper-case) country code.
+     */
+    public OptionalLong forCountry(String countryCode) {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+        AtomicLong count = byCountry.get(countryCode);
+        return OptionalLong.of(count == null ? 0 : count.get());
+    }
+
+    public void created(String countryCode) {
+        afterCommit(Map.of(countryCode, 1L));
+    }
+
+    public void created(Map<String, Long> perCountry) {
+        afterCommit(perCountry);
+    }
+
+    public void deleted(String countryCode) {
+        afterCommit(Map.of(countryCode, -1L));
+    }
+
+    public void moved(String fromCountryCode, String toCountryCode) {
+        if (!fromCountryCode.equals(toCountryCode)) {
+            afterCommit(Map.of(fromCountryCode, -1L, toCountryCode, 1L));
+        }
+    }
+
+    /**
+     * Applies the deltas once the current transaction commits; a rolled-back write counts nothing.
+     */
+    private void afterCommit(Map<String, Long> deltas) {
+        if (!enabled || deltas.isEmpty()) {
+            return;
+        }
+        if (transactionRegistry.getTransactionKey() == null) {
+            synchronized (lock) {
+                writeSequence++;
+                apply(deltas);
+            }
+            return;
+        }
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            private boolean started;
+
+            @Override
+            public void beforeCompletion() {
+                synchronized (lock) {
+                    writeSequence++;
+                    committing++;
+                    started = true;
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (lock) {
+                    if (started) {
+                        committing--;
+                    }
+                    if (status == Status.STATUS_COMMITTED) {
+                        apply(deltas);
+                    }
+                }
+            }
+        });
+    }
+
+    private void apply(Map<String, Long> deltas) {
+        synchronized (lock) {
+            deltas.forEach((country, delta) -> {
+                byCountry.computeIfAbsent(country, key -> new AtomicLong()).addAndGet(delta);
+                total.addAndGet(delta);
+            });
+        }
+    }
+
+    /**
+     * Counts the active clients per country in the database on a worker thread and replaces
+     * the in-memory counts with them, unless one of our writes overlapped the query on every
+     * attempt; the counts are then left as they are until the next run.
+     */
+    void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+        executor.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                Map<String, Long> drift = null;
+                Map<String, Long> counted = null;
+                for (int attempt = 0; attempt < RECONCILE_ATTEMPTS && drift == null; attempt++) {
+                    long sequence;
+                    boolean quiet;
+                    synchronized (lock) {
+                        sequence = writeSequence;
+                        quiet = committing == 0;
+                    }
+                    counted = QuarkusTransaction.requiringNew()
+                            .call(clientRepository::countActiveGroupedByCountryCode);
+                    drift = quiet ? swapIn(counted, sequence) : null;
+                }
+
+                lastReconcileMillis = (System.nanoTime() - start) / 1_000_000;
+                if (drift == null) {
+                    skipped.increment();
+                    LOG.info("Skipped reconciling client counters, writes kept committing during the count");
+                } else if (!ready) {
+                    ready = true;
+                    LOG.info("Loaded client counters in " + lastReconcileMillis + " ms: " + total.get()
+                            + " active clients in " + counted.size() + " countries");
+                } else if (drift.isEmpty()) {
+                    lastDrift = 0;
+                    inSync.increment();
+                } else {
+                    lastDrift = drift.values().stream().mapToLong(Math::abs).sum();
+                    corrected.increment();
+                    LOG.warn("Corrected client counters that drifted from the database (counted minus kept): " + drift);
+                }
+            } catch (RuntimeException e) {
+                failed.increment();
+                LOG.error("Could not reconcile client counters with the database", e);
+            } finally {
+                reconciling.set(false);
+            }
+        });
+    }
+
+    /**
+     * Sets every counter to its database count and returns the differences to the values they
+     * replace (empty when nothing drifted), or null without changing anything if a write started
+     * committing since {@code sequence} was read, as the count may or may not include it.
+     */
+    private Map<String, Long> swapIn(Map<String, Long> counted, long sequence) {
+        Map<String, Long> drift = new HashMap<>();
+        synchronized (lock) {
+            if (writeSequence != sequence) {
+                return null;
+            }
+            Set<String> countries = new HashSet<>(byCountry.keySet());
+            countries.addAll(counted.keySet());
+            long newTotal = 0;
+            for (String country : countries) {
+                long expected = counted.getOrDefault(country, 0L);
+                long kept = byCountry.computeIfAbsent(country, key -> new AtomicLong()).getAndSet(expected);
+                if (kept != expected) {
+                    drift.put(country, expected - kept);
+                }
+                newTotal += expected;
+            }
+            total.set(newTotal);
+        }
+        return drift;
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("client.counters.drift", this, counters -> counters.lastDrift)
+                .description("Sum of the per-country differences the last reconciliation corrected")
+                .register(meterRegistry);
+        Gauge.builder("client.counters.reconcile.duration", this, counters -> counters.lastReconcileMillis)
+                .baseUnit("milliseconds")
+                .description("Time taken by the last reconciliation with the database")
+                .register(meterRegistry);
+        FunctionCounter.builder("client.counters.reconciliations", inSync, LongAdder::sum)
+                .tag("result", "in-sync")
+                .description("Reconciliations with the database")
+                .register(meterRegistry);
+        FunctionCounter.builder("client.counters.reconciliations", corrected, LongAdder::sum)
+                .tag("result", "corrected")
+                .description("Reconciliations with the database")
+                .register(meterRegistry);
+        FunctionCounter.builder("client.counters.reconciliations", failed, LongAdder::sum)
+                .tag("result", "failed")
+                .description("Reconciliations with the database")
+                .register(meterRegistry);
+        FunctionCounter.builder("client.counters.reconciliations", skipped, LongAdder::sum)
+                .tag("result", "skipped")
+                .description("Reconciliations with the database")
+                .register(meterRegistry);
+    }
+}
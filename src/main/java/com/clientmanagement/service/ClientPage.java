@@ -0,0 +1,11 @@
+package com.clientmanagement.service;
+
+import com.clientmanagement.dto.client.ClientResponse;
+
+import java.util.List;
+
+/**
+ * One page of the client listing. {@code nextCursor} is null on the last page.
+ */
+public record ClientPage(List<ClientResponse> clients, String nextCursor) {
+}
@@ -1,20 +1,55 @@
 package com.clientmanagement.service;
 
 import com.clientmanagement.client.CountryService;
+import com.clientmanagement.dto.client.BulkImportItemResult;
+import com.clientmanagement.dto.client.BulkImportReport;
+import com.clientmanagement.dto.client.ClientCursor;
+import com.clientmanagement.dto.client.ClientField;
+import com.clientmanagement.dto.client.ClientResponse;
 import com.clientmanagement.dto.client.CreateClientRequest;
 import com.clientmanagement.dto.client.UpdateClientRequest;
 import com.clientmanagement.entity.Client;
+import com.clientmanagement.dto.common.FieldError;
 import com.clientmanagement.exception.ClientNotFoundException;
+import com.clientmanagement.exception.ClientVersionConflictException;
+import com.clientmanagement.exception.CountryServiceException;
 import com.clientmanagement.exception.DuplicateEmailException;
 import com.clientmanagement.exception.DuplicatePhoneException;
+import com.clientmanagement.exception.InvalidCountryCodeException;
 import com.clientmanagement.repository.ClientRepository;
+import com.clientmanagement.repository.ClientRepository.UniqueField;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.ws.rs.BadRequestException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
 import org.jboss.logging.Logger;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Handles all client-related business logic including CRUD operations.
@@ -31,18 +66,104 @@ public class ClientService {
     @Inject
     CountryService countryService;
 
-    @Transactional
+    @Inject
+    ContactFilter contactFilter;
+
+    @Inject
+    ClientCounters clientCounters;
+
+    @Inject
+    ManagedExecutor executor;
+
+    @Inject
+    Validator validator;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "client.page.default-size", defaultValue = "50")
+    int defaultPageSize;
+
+    @ConfigProperty(name = "client.page.max-size", defaultValue = "200")
+    int maxPageSize;
+
+    @ConfigProperty(name = "client.export.batch-size", defaultValue = "500")
+    int exportBatchSize;
+
+    @ConfigProperty(name = "client.export.timeout", defaultValue = "1h")
+    Duration exportTimeout;
+
+    @ConfigProperty(name = "client.bulk.batch-size", defaultValue = "500")
+    int bulkBatchSize;
+
+    @ConfigProperty(name = "client.cache.enabled", defaultValue = "true")
+    boolean cacheEnabled;
+
+    @ConfigProperty(name = "client.cache.max-size", defaultValue = "10000")
+    int cacheMaxSize;
+
+    @ConfigProperty(name = "client.cache.ttl", defaultValue = "1m")
+    Duration cacheTtl;
+
+    private ClientCache clientCache;
+
+    /**
+     * A bulk import item that passed validation, ready to be checked against the table.
+     */
+    private record BulkItem(int index, CreateClientRequest request, Client client) {
+    }
+
+    /**
+     * A country code resolved once per bulk import: its demonym, or why it can't be used.
+     */
+    private record ResolvedCountry(String demonym, RuntimeException failure) {
+    }
+
+    @PostConstruct
+    void init() {
+        if (cacheEnabled) {
+            clientCache = new ClientCache(cacheMaxSize, cacheTtl);
+            new ClientCacheMetrics(clientCache, "clients").bindTo(meterRegistry);
+        }
+    }
+
+    /**
+     * Normalizes the input and resolves the demonym before opening a transaction, so no
+     * database connection is held during the country lookup. The transaction only covers
+     * the duplicate checks and the insert.
+     */
     public Client createClient(CreateClientRequest request) {
         LOG.info("Creating new client with email: " + request.email);
 
-        if (clientRepository.existsByEmail(request.email.toLowerCase())) {
-            throw new DuplicateEmailException(request.email);
-        }
+        Client client = newClient(request);
 
-        if (clientRepository.existsByPhone(request.phone.trim())) {
-            throw new DuplicatePhoneException(request.phone);
-        }
+        // Validates the country code and fetches demonym in a single call
+        client.demonym = countryService.getDemonym(client.countryCode);
+
+        return QuarkusTransaction.joiningExisting().call(() -> insert(client, request));
+    }
 
+    /**
+     * Same as {@link #createClient} but doesn't block the calling thread: the country lookup
+     * is non-blocking and only the short insert transaction runs on a worker thread.
+     */
+    public Uni<Client> createClientAsync(CreateClientRequest request) {
+        LOG.info("Creating new client with email: " + request.email);
+
+        Client client = newClient(request);
+
+        return countryService.getDemonymAsync(client.countryCode)
+                .emitOn(executor)
+                .map(demonym -> {
+                    client.demonym = demonym;
+                    return QuarkusTransaction.joiningExisting().call(() -> insert(client, request));
+                });
+    }
+
+    private Client newClient(CreateClientRequest request) {
         Client client = new Client();
         client.firstName = request.firstName.trim();
         client.secondName = request.secondName != null ? request.secondName.trim() : null;
@@ -52,74 +173,443 @@ public class ClientService {
         client.address = request.address.trim();
         client.phone = request.phone.trim();
         client.countryCode = request.countryCode.toUpperCase().trim();
+        return client;
+    }
 
-        // Validates the country code and fetches demonym in a single call
-        client.demonym = countryService.getDemonym(client.countryCode);
+    private Client insert(Client client, CreateClientRequest request) {
+        // Values the filter has never seen can't be taken, so they skip the database probe
+        rejectDuplicates(clientRepository.findDuplicateFields(
+                        contactFilter.mightContainEmail(client.email) ? client.email : null,
+                        contactFilter.mightContainPhone(client.phone) ? client.phone : null,
+                        null),
+                request.email, request.phone);
 
         client.createdAt = LocalDateTime.now();
         client.updatedAt = LocalDateTime.now();
 
+        contactFilter.add(client.email, client.phone);
         clientRepository.persist(client);
         // Flush immediately so constraint violations surface before we return success
-        clientRepository.flush();
+        flush(request.email, request.phone);
+        clientCounters.created(client.countryCode);
         LOG.info("Successfully created client with id: " + client.id);
 
         return client;
     }
 
-    public List<Client> getAllClients() {
-        return clientRepository.findAllOrderByCreatedAtDesc();
+    /**
+     * Imports many clients at once and reports the outcome of each one; a rejected item doesn't
+     * stop the others. Items are validated and normalized as they are read, demonyms are
+     * resolved once per distinct country, and values repeated within the import are rejected
+     * up front. Every {@code client.bulk.batch-size} accepted items are checked against the
+     * table with one IN query per field and inserted in their own transaction, which Hibernate
+     * sends as JDBC batches. Reading stops at the first item that can't be parsed; it is
+     * reported as invalid and the items before it are still imported.
+     */
+    public BulkImportReport importClients(Iterator<CreateClientRequest> requests) {
+        BulkImportReport report = new BulkImportReport();
+        Map<String, ResolvedCountry> countries = new HashMap<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+        List<BulkItem> batch = new ArrayList<>(bulkBatchSize);
+
+        int received = 0;
+        while (true) {
+            int index = received;
+            CreateClientRequest request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) {
+                // The parser can't resynchronize after malformed input, so the import ends here
+                report.add(BulkImportItemResult.invalid(index, "Malformed item: " + rootCauseMessage(e), List.of()));
+                received++;
+                break;
+            }
+            received++;
+
+            BulkItem item = prepare(index, request, countries, report);
+            if (item == null) {
+                continue;
+            }
+            if (emails.contains(item.client.email)) {
+                report.add(BulkImportItemResult.duplicate(index,
+                        "Email '" + request.email + "' appears more than once in this import"));
+                continue;
+            }
+            if (phones.contains(item.client.phone)) {
+                report.add(BulkImportItemResult.duplicate(index,
+                        "Phone '" + request.phone + "' appears more than once in this import"));
+                continue;
+            }
+            emails.add(item.client.email);
+            phones.add(item.client.phone);
+
+            batch.add(item);
+            if (batch.size() >= bulkBatchSize) {
+                insertBatch(batch, report);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(batch, report);
+        }
+
+        LOG.info("Bulk import finished: " + received + " received, " + report.created + " created, "
+                + report.rejected + " rejected");
+        return report.complete(received);
+    }
+
+    /**
+     * Validates and normalizes one item. Returns null after recording the rejection if it
+     * can't be imported.
+     */
+    private BulkItem prepare(int index, CreateClientRequest request, Map<String, ResolvedCountry> countries,
+                             BulkImportReport report) {
+        if (request == null) {
+            report.add(BulkImportItemResult.invalid(index, "Item must be a JSON object", List.of()));
+            return null;
+        }
+        Set<ConstraintViolation<CreateClientRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            List<FieldError> errors = violations.stream()
+                    .map(v -> new FieldError(v.getPropertyPath().toString(), v.getMessage(), v.getInvalidValue()))
+                    .toList();
+            report.add(BulkImportItemResult.invalid(index, "Validation failed for one or more fields", errors));
+            return null;
+        }
+
+        Client client = newClient(request);
+        ResolvedCountry country = countries.computeIfAbsent(client.countryCode, this::resolveCountry);
+        if (country.failure instanceof InvalidCountryCodeException e) {
+            report.add(BulkImportItemResult.invalid(index, e.getMessage(),
+                    List.of(new FieldError("countryCode", e.getMessage(), request.countryCode))));
+            return null;
+        }
+        if (country.failure != null) {
+            report.add(BulkImportItemResult.failed(index, "Unable to fetch country information for '"
+                    + client.countryCode + "'. Please try again later."));
+            return null;
+        }
+        client.demonym = country.demonym;
+        return new BulkItem(index, request, client);
+    }
+
+    private ResolvedCountry resolveCountry(String countryCode) {
+        try {
+            return new ResolvedCountry(countryService.getDemonym(countryCode), null);
+        } catch (InvalidCountryCodeException | CountryServiceException e) {
+            return new ResolvedCountry(null, e);
+        }
+    }
+
+    /**
+     * Inserts one batch in a single transaction. If another writer took one of its values after
+     * the check, the whole batch rolls back; it is then redone row by row to tell which item
+     * collided.
+     */
+    private void insertBatch(List<BulkItem> batch, BulkImportReport report) {
+        List<BulkImportItemResult> results;
+        try {
+            results = QuarkusTransaction.requiringNew().call(() -> insertAll(batch));
+        } catch (PersistenceException e) {
+            LOG.warn("Bulk insert of " + batch.size() + " clients failed, retrying one by one: " + rootCauseMessage(e));
+            results = batch.stream().map(this::insertOne).toList();
+        }
+        results.forEach(report::add);
+    }
+
+    private List<BulkImportItemResult> insertAll(List<BulkItem> batch) {
+        // Same as the single-row path: values the filter has never seen skip the IN lists
+        List<String> emails = new ArrayList<>(batch.size());
+        List<String> phones = new ArrayList<>(batch.size());
+        for (BulkItem item : batch) {
+            if (contactFilter.mightContainEmail(item.client.email)) {
+                emails.add(item.client.email);
+            }
+            if (contactFilter.mightContainPhone(item.client.phone)) {
+                phones.add(item.client.phone);
+            }
+        }
+        Map<UniqueField, Set<String>> taken = clientRepository.findTakenContacts(emails, phones);
+
+        List<BulkImportItemResult> results = new ArrayList<>(batch.size());
+        List<BulkItem> persisted = new ArrayList<>(batch.size());
+        for (BulkItem item : batch) {
+            if (taken.get(UniqueField.EMAIL).contains(item.client.email)) {
+                results.add(BulkImportItemResult.duplicate(item.index, new DuplicateEmailException(item.request.email).getMessage()));
+            } else if (taken.get(UniqueField.PHONE).contains(item.client.phone)) {
+                results.add(BulkImportItemResult.duplicate(item.index, new DuplicatePhoneException(item.request.phone).getMessage()));
+            } else {
+                contactFilter.add(item.client.email, item.client.phone);
+                clientRepository.persist(item.client);
+                persisted.add(item);
+            }
+        }
+        clientRepository.flush();
+        clientCounters.created(persisted.stream()
+                .collect(Collectors.groupingBy(item -> item.client.countryCode, Collectors.counting())));
+
+        for (BulkItem item : persisted) {
+            results.add(BulkImportItemResult.created(item.index, item.client.uuid));
+        }
+        return results;
+    }
+
+    private BulkImportItemResult insertOne(BulkItem item) {
+        // The rolled-back entity already has an id, so start from a fresh one
+        Client client = newClient(item.request);
+        client.demonym = item.client.demonym;
+        try {
+            QuarkusTransaction.requiringNew().call(() -> insert(client, item.request));
+            return BulkImportItemResult.created(item.index, client.uuid);
+        } catch (DuplicateEmailException | DuplicatePhoneException e) {
+            return BulkImportItemResult.duplicate(item.index, e.getMessage());
+        } catch (PersistenceException e) {
+            LOG.warn("Could not import item " + item.index + ": " + rootCauseMessage(e));
+            return BulkImportItemResult.failed(item.index, "The client could not be stored");
+        }
+    }
+
+    /**
+     * Returns one page of active clients, newest first. Pass the previous page's
+     * {@code nextCursor} to continue; a null cursor starts from the top.
+     */
+    public ClientPage getClientsPage(String cursor, Integer limit) {
+        return getClientsPage(cursor, limit, ClientField.ALL);
+    }
+
+    /**
+     * Like {@link #getClientsPage(String, Integer)}, reading and returning only {@code fields}.
+     */
+    public ClientPage getClientsPage(String cursor, Integer limit, Set<ClientField> fields) {
+        int size = limit != null ? limit : defaultPageSize;
+        if (size < 1 || size > maxPageSize) {
+            throw new BadRequestException("Limit must be between 1 and " + maxPageSize);
+        }
+
+        ClientCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = ClientCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        // Fetch one extra row to know whether there is a next page
+        List<ClientResponse> rows = after == null
+                ? clientRepository.findPageOrderByCreatedAtDesc(null, null, size + 1, fields)
+                : clientRepository.findPageOrderByCreatedAtDesc(after.createdAt(), after.id(), size + 1, fields);
+
+        if (rows.size() <= size) {
+            return new ClientPage(rows, null);
+        }
+        List<ClientResponse> page = rows.subList(0, size);
+        return new ClientPage(page, ClientCursor.of(page.get(size - 1)).encode());
+    }
+
+    /**
+     * Feeds every active client to {@code action} in id order without loading the whole table:
+     * rows come through a JDBC cursor and the persistence context is cleared every
+     * {@code client.export.batch-size} rows, so memory use doesn't grow with the row count.
+     * Runs in its own transaction because it is called while the response is being written.
+     */
+    public long forEachActiveClient(Consumer<Client> action) {
+        return QuarkusTransaction.requiringNew()
+                .timeout((int) exportTimeout.toSeconds())
+                .call(() -> {
+                    long count = 0;
+                    try (Stream<Client> clients = clientRepository.streamAllActive(exportBatchSize)) {
+                        Iterator<Client> it = clients.iterator();
+                        while (it.hasNext()) {
+                            action.accept(it.next());
+                            if (++count % exportBatchSize == 0) {
+                                clientRepository.clearPersistenceContext();
+                            }
+                        }
+                    }
+                    LOG.info("Exported " + count + " clients");
+                    return count;
+                });
     }
 
-    public List<Client> getClientsByCountry(String countryCode) {
-        return clientRepository.findByCountryCode(countryCode.toUpperCase());
+    public List<ClientResponse> getClientsByCountry(String countryCode) {
+        return getClientsByCountry(countryCode, ClientField.ALL);
     }
 
+    public List<ClientResponse> getClientsByCountry(String countryCode, Set<ClientField> fields) {
+        return clientRepository.findByCountryCode(countryCode.toUpperCase(), fields);
+    }
+
+    /**
+     * Returns an active client, from the client cache when it holds one. The result may be
+     * shared with other requests, so it must not be modified; writes load their own copy.
+     */
     public Client getClientByUuid(String uuid) {
-        return clientRepository.findActiveByUuid(uuid)
-                .orElseThrow(() -> new ClientNotFoundException(uuid));
+        Optional<Client> client = clientCache == null
+                ? clientRepository.findActiveByUuid(uuid)
+                // The uuid is matched case-insensitively, so key on the lower-case form writes evict
+                : clientCache.get(uuid.toLowerCase(Locale.ROOT), clientRepository::findActiveByUuid);
+        return client.orElseThrow(() -> new ClientNotFoundException(uuid));
+    }
+
+    /**
+     * The version of an active client, taken from the cached copy when there is one and
+     * otherwise read on its own, without loading the client or caching it.
+     */
+    public long getClientVersion(String uuid) {
+        if (clientCache != null) {
+            Optional<Client> cached = clientCache.peek(uuid.toLowerCase(Locale.ROOT));
+            if (cached.isPresent()) {
+                return cached.get().version;
+            }
+        }
+        return clientRepository.findActiveVersionByUuid(uuid).orElseThrow(() -> new ClientNotFoundException(uuid));
     }
 
     /**
      * Updates only modifiable fields: email, address, phone, country.
-     * If the country changes, the demonym is re-fetched from the external API.
+     * If the country changes, the demonym is re-fetched from the external API before the
+     * transaction starts; the transaction only covers the duplicate checks and the update.
      */
-    @Transactional
     public Client updateClient(String uuid, UpdateClientRequest request) {
+        return updateClient(uuid, request, null);
+    }
+
+    /**
+     * Conditional update: fails with a conditional {@link ClientVersionConflictException} unless
+     * the client is still at {@code expectedVersion} (null means any). Without a condition, a
+     * write that raced another one fails with a non-conditional conflict instead of overwriting it.
+     */
+    public Client updateClient(String uuid, UpdateClientRequest request, Long expectedVersion) {
         LOG.info("Updating client with uuid: " + uuid);
 
-        Client client = clientRepository.findActiveByUuid(uuid)
-                .orElseThrow(() -> new ClientNotFoundException(uuid));
+        String newCountryCode = request.countryCode.toUpperCase().trim();
+        Client current = getClientByUuid(uuid);
 
-        String newEmail = request.email.toLowerCase().trim();
-        if (!newEmail.equals(client.email) &&
-            clientRepository.existsByEmailAndUuidNot(newEmail, uuid)) {
-            throw new DuplicateEmailException(request.email);
-        }
+        // Fetch demonym first -- if the code is invalid this throws before we update anything
+        String newDemonym = newCountryCode.equals(current.countryCode)
+                ? null
+                : countryService.getDemonym(newCountryCode);
 
+        return QuarkusTransaction.joiningExisting().call(() -> applyUpdate(uuid, request, newDemonym, expectedVersion));
+    }
+
+    /**
+     * Same as {@link #updateClient} but doesn't block the calling thread. The reads and the
+     * update transaction run on a worker thread, the country lookup in between doesn't.
+     */
+    public Uni<Client> updateClientAsync(String uuid, UpdateClientRequest request) {
+        return updateClientAsync(uuid, request, null);
+    }
+
+    public Uni<Client> updateClientAsync(String uuid, UpdateClientRequest request, Long expectedVersion) {
+        LOG.info("Updating client with uuid: " + uuid);
+
+        String newCountryCode = request.countryCode.toUpperCase().trim();
+
+        return Uni.createFrom().item(() -> getClientByUuid(uuid))
+                .runSubscriptionOn(executor)
+                .chain(current -> newCountryCode.equals(current.countryCode)
+                        ? Uni.createFrom().<String>nullItem()
+                        : countryService.getDemonymAsync(newCountryCode))
+                .emitOn(executor)
+                .map(newDemonym -> QuarkusTransaction.joiningExisting()
+                        .call(() -> applyUpdate(uuid, request, newDemonym, expectedVersion)));
+    }
+
+    private Client applyUpdate(String uuid, UpdateClientRequest request, String newDemonym, Long expectedVersion) {
+        String newEmail = request.email.toLowerCase().trim();
+        String newAddress = request.address.trim();
         String newPhone = request.phone.trim();
-        if (!newPhone.equals(client.phone) &&
-            clientRepository.existsByPhoneAndUuidNot(newPhone, uuid)) {
-            throw new DuplicatePhoneException(request.phone);
+        String newCountryCode = request.countryCode.toUpperCase().trim();
+
+        Client client = clientRepository.findActiveByUuid(uuid)
+                .orElseThrow(() -> new ClientNotFoundException(uuid));
+        if (expectedVersion != null && client.version != expectedVersion) {
+            throw new ClientVersionConflictException(uuid, true);
         }
+        evictOnWrite(client.uuid);
+
+        // Only the fields that actually change can collide with another client
+        boolean emailChanged = !newEmail.equals(client.email);
+        boolean phoneChanged = !newPhone.equals(client.phone);
+        rejectDuplicates(clientRepository.findDuplicateFields(
+                        emailChanged && contactFilter.mightContainEmail(newEmail) ? newEmail : null,
+                        phoneChanged && contactFilter.mightContainPhone(newPhone) ? newPhone : null,
+                        uuid),
+                request.email, request.phone);
+
+        contactFilter.add(emailChanged ? newEmail : null, phoneChanged ? newPhone : null);
+        contactFilter.retire((emailChanged ? 1 : 0) + (phoneChanged ? 1 : 0));
 
         client.email = newEmail;
-        client.address = request.address.trim();
+        client.address = newAddress;
         client.phone = newPhone;
 
-        String newCountryCode = request.countryCode.toUpperCase().trim();
         if (!newCountryCode.equals(client.countryCode)) {
-            // Fetch demonym first -- if the code is invalid this throws before we update anything
-            client.demonym = countryService.getDemonym(newCountryCode);
+            if (newDemonym == null) {
+                // Another write moved the client after our first read, so the demonym wasn't
+                // resolved; looking it up here would hold the transaction over a remote call
+                throw new ClientVersionConflictException(uuid, expectedVersion != null);
+            }
+            client.demonym = newDemonym;
+            clientCounters.moved(client.countryCode, newCountryCode);
             client.countryCode = newCountryCode;
         }
 
         client.updatedAt = LocalDateTime.now();
+        try {
+            // The UPDATE is guarded by the version read above; another writer in between makes it fail
+            flush(request.email, request.phone);
+        } catch (OptimisticLockException e) {
+            throw new ClientVersionConflictException(uuid, expectedVersion != null);
+        }
 
         LOG.info("Successfully updated client with uuid: " + uuid);
         return client;
     }
 
+    private void rejectDuplicates(Set<UniqueField> duplicates, String email, String phone) {
+        if (duplicates.contains(UniqueField.EMAIL)) {
+            throw new DuplicateEmailException(email);
+        }
+        if (duplicates.contains(UniqueField.PHONE)) {
+            throw new DuplicatePhoneException(phone);
+        }
+    }
+
+    /**
+     * Flushes pending changes. A write that slipped past the duplicate checks (a concurrent
+     * request, or a value the contact filter hadn't seen) fails on uk_client_email /
+     * uk_client_phone; that is reported the same way as a duplicate found by the checks.
+     */
+    private void flush(String email, String phone) {
+        try {
+            clientRepository.flush();
+        } catch (PersistenceException e) {
+            String message = rootCauseMessage(e).toLowerCase();
+            if (message.contains("uk_client_email")) {
+                throw new DuplicateEmailException(email);
+            }
+            if (message.contains("uk_client_phone")) {
+                throw new DuplicatePhoneException(phone);
+            }
+            throw e;
+        }
+    }
+
+    private static String rootCauseMessage(Throwable throwable) {
+        Throwable root = throwable;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return String.valueOf(root.getMessage());
+    }
+
     /**
      * Soft-deletes a client (sets active = false). The record stays in the DB
      * but won't appear in queries anymore.
@@ -131,16 +621,49 @@ public class ClientService {
         Client client = clientRepository.findActiveByUuid(uuid)
                 .orElseThrow(() -> new ClientNotFoundException(uuid));
 
+        evictOnWrite(client.uuid);
         client.active = false;
         client.updatedAt = LocalDateTime.now();
+        try {
+            clientRepository.flush();
+        } catch (OptimisticLockException e) {
+            throw new ClientVersionConflictException(uuid, false);
+        }
+        contactFilter.retire(2);
+        clientCounters.deleted(client.countryCode);
         LOG.info("Successfully soft-deleted client with uuid: " + uuid);
     }
 
+    /**
+     * Drops the client from the cache now, and again when the current transaction ends: a
+     * read in between still sees the committed old row and may have cached it.
+     */
+    private void evictOnWrite(String uuid) {
+        if (clientCache == null) {
+            return;
+        }
+        clientCache.invalidate(uuid);
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                clientCache.invalidate(uuid);
+            }
+        });
+    }
+
+    /**
+     * Active clients, from the maintained counters once they are loaded.
+     */
     public long countClients() {
-        return clientRepository.countActive();
+        return clientCounters.total().orElseGet(clientRepository::countActive);
     }
 
     public long countClientsByCountry(String countryCode) {
-        return clientRepository.countActiveByCountryCode(countryCode);
+        String code = countryCode.toUpperCase().trim();
+        return clientCounters.forCountry(code).orElseGet(() -> clientRepository.countActiveByCountryCode(code));
     }
 }
@@ -0,0 +1,254 @@
+package com.clientmanagement.service;
+
+import com.clientmanagement.repository.ClientRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.Startup;
+import io.quarkus.runtime.configuration.MemorySize;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.jboss.logging.Logger;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * In-memory pre-check for email and phone uniqueness on the write path.
+ *
+ * Keeps a {@link BloomFilter} per field over the values of all active clients, built from
+ * {@link ClientRepository} on a background thread at startup. When the filter says a value is
+ * definitely absent, {@link ClientService} skips the database probe for it; "maybe present",
+ * or a filter that isn't built yet, falls back to the probe. The uk_client_email /
+ * uk_client_phone unique indexes remain the guarantee, so a value the filter hasn't seen
+ * (for example one written by another instance) still ends in a 409.
+ *
+ * Values can't be taken out of a Bloom filter, so soft deletes and replaced values are only
+ * counted as stale. Once they reach {@code rebuild-stale-ratio} of the entries, or more values
+ * were added than the filter was sized for, a fresh one is built in the background and swapped in.
+ */
+@Startup
+@ApplicationScoped
+public class ContactFilter {
+
+    private static final Logger LOG = Logger.getLogger(ContactFilter.class);
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int BUILD_TIMEOUT_SECONDS = 600;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    ManagedExecutor executor;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "client.contact-filter.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "client.contact-filter.expected-insertions", defaultValue = "1000000")
+    long expectedInsertions;
+
+    @ConfigProperty(name = "client.contact-filter.false-positive-rate", defaultValue = "0.01")
+    double falsePositiveRate;
+
+    @ConfigProperty(name = "client.contact-filter.max-memory", defaultValue = "64M")
+    MemorySize maxMemory;
+
+    @ConfigProperty(name = "client.contact-filter.rebuild-stale-ratio", defaultValue = "0.2")
+    double rebuildStaleRatio;
+
+    private volatile Filters current;
+    private volatile Filters building;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder skippedProbes = new LongAdder();
+    private final LongAdder forwardedProbes = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private volatile long lastBuildMillis;
+
+    private record Filters(BloomFilter emails, BloomFilter phones, long capacity) {
+    }
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            LOG.info("Contact filter disabled, every duplicate check goes to the database");
+            return;
+        }
+        registerMetrics();
+        rebuild();
+    }
+
+    /**
+     * False only if no active client can have this (normalized) email.
+     */
+    public boolean mightContainEmail(String email) {
+        return mightContain(email, Filters::emails);
+    }
+
+    /**
+     * False only if no active client can have this phone.
+     */
+    public boolean mightContainPhone(String phone) {
+        return mightContain(phone, Filters::phones);
+    }
+
+    private boolean mightContain(String value, Function<Filters, BloomFilter> field) {
+        Filters filters = current;
+        if (filters == null) {
+            return true;
+        }
+        if (field.apply(filters).mightContain(value)) {
+            forwardedProbes.increment();
+            return true;
+        }
+        skippedProbes.increment();
+        return false;
+    }
+
+    /**
+     * Records the contact values of a client about to be written. Call it before the insert or
+     * update is flushed, so concurrent checks can't miss it; a write that then fails only costs
+     * a slightly higher false-positive rate.
+     */
+    public void add(String email, String phone) {
+        Filters filters = current;
+        Filters next = building;
+        if (filters != null) {
+            put(filters, email, phone);
+            if (filters.emails.insertions() > filters.capacity) {
+                rebuildInBackground("capacity of " + filters.capacity + " exceeded");
+            }
+        }
+        if (next != null) {
+            put(next, email, phone);
+        }
+    }
+
+    private static void put(Filters filters, String email, String phone) {
+        if (email != null) {
+            filters.emails.put(email);
+        }
+        if (phone != null) {
+            filters.phones.put(phone);
+        }
+    }
+
+    /**
+     * Notes that {@code count} recorded values no longer belong to an active client.
+     */
+    public void retire(int count) {
+        Filters filters = current;
+        if (filters == null) {
+            return;
+        }
+        stale.add(count);
+        long entries = filters.emails.insertions() + filters.phones.insertions();
+        if (stale.sum() > rebuildStaleRatio * entries) {
+            rebuildInBackground(stale.sum() + " stale entries");
+        }
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    private void rebuildInBackground(String reason) {
+        if (rebuilding.get()) {
+            return;
+        }
+        LOG.info("Rebuilding contact filter: " + reason);
+        rebuild();
+    }
+
+    /**
+     * Builds new filters from the active rows on a worker thread and swaps them in. Writes that
+     * happen meanwhile go into both the old and the new filters.
+     */
+    void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        executor.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                long active = QuarkusTransaction.requiringNew().call(clientRepository::countActive);
+                long capacity = Math.max(expectedInsertions, 2 * active);
+                long bytesPerFilter = maxMemory.asLongValue() / 2;
+                Filters next = new Filters(
+                        BloomFilter.create(capacity, falsePositiveRate, bytesPerFilter),
+                        BloomFilter.create(capacity, falsePositiveRate, bytesPerFilter),
+                        capacity);
+                building = next;
+                long staleBefore = stale.sum();
+
+                QuarkusTransaction.requiringNew().timeout(BUILD_TIMEOUT_SECONDS).run(() -> {
+                    try (Stream<Object[]> contacts = clientRepository.streamActiveContacts(FETCH_SIZE)) {
+                        contacts.forEach(row -> put(next, (String) row[0], (String) row[1]));
+                    }
+                });
+
+                current = next;
+                stale.add(-staleBefore);
+                rebuilds.increment();
+                lastBuildMillis = (System.nanoTime() - start) / 1_000_000;
+                LOG.info(String.format("Built contact filter in %d ms: %d emails, %d phones, capacity %d, "
+                                + "%d hashes, %.1f KiB, expected false-positive rate %.4f",
+                        lastBuildMillis, next.emails.insertions(), next.phones.insertions(), capacity,
+                        next.emails.hashCount(), (next.emails.sizeInBytes() + next.phones.sizeInBytes()) / 1024.0,
+                        next.emails.expectedFalsePositiveRate()));
+            } catch (RuntimeException e) {
+                LOG.error("Could not build contact filter, duplicate checks keep going to the database", e);
+            } finally {
+                building = null;
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("contact.filter.memory", this,
+                        filter -> filter.current == null ? 0 : filter.current.emails.sizeInBytes() + filter.current.phones.sizeInBytes())
+                .baseUnit("bytes")
+                .description("Memory held by the email and phone Bloom filters")
+                .register(meterRegistry);
+        Gauge.builder("contact.filter.false.positive.rate", this,
+                        filter -> filter.current == null ? 1 : filter.current.emails.expectedFalsePositiveRate())
+                .tag("field", "email")
+                .description("Expected false-positive rate for the values added so far")
+                .register(meterRegistry);
+        Gauge.builder("contact.filter.false.positive.rate", this,
+                        filter -> filter.current == null ? 1 : filter.current.phones.expectedFalsePositiveRate())
+                .tag("field", "phone")
+                .description("Expected false-positive rate for the values added so far")
+                .register(meterRegistry);
+        Gauge.builder("contact.filter.stale.entries", stale, LongAdder::sum)
+                .description("Values of deleted or changed clients still set in the filters")
+                .register(meterRegistry);
+        Gauge.builder("contact.filter.build.duration", this, filter -> filter.lastBuildMillis)
+                .baseUnit("milliseconds")
+                .description("Time taken by the last filter build")
+                .register(meterRegistry);
+        FunctionCounter.builder("contact.filter.builds", rebuilds, LongAdder::sum)
+                .description("Filter builds, at startup and after drift")
+                .register(meterRegistry);
+        FunctionCounter.builder("contact.filter.checks", skippedProbes, LongAdder::sum)
+                .tag("result", "absent")
+                .description("Duplicate checks answered by the filter without a database probe")
+                .register(meterRegistry);
+        FunctionCounter.builder("contact.filter.checks", forwardedProbes, LongAdder::sum)
+                .tag("result", "maybe")
+                .description("Duplicate checks the filter passed on to the database")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.clientmanagement.service;
+
+/**
+ * How create and update requests are executed, selected with {@code client.write-path}.
+ */
+public enum WritePath {
+
+    /**
+     * The whole request runs on a worker thread; the country lookup blocks it.
+     */
+    BLOCKING,
+
+    /**
+     * The request stays on the event loop while the country is resolved; only the
+     * database transaction is handed to a worker thread.
+     */
+    REACTIVE
+}
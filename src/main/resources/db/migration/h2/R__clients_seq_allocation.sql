@@ -0,0 +1,6 @@
+-- Keeps the clients_seq step equal to client.id.allocation-size (ClientIdGenerator hands out each
+-- step as a pooled-lo block). Flyway re-runs this script whenever that value changes.
+-- Drawing one value with the old step first moves past the block the last allocation may still
+-- be handing out, so a smaller step can't hand out its ids again.
+SELECT NEXT VALUE FOR clients_seq;
+ALTER SEQUENCE clients_seq INCREMENT BY ${client_id_allocation_size};
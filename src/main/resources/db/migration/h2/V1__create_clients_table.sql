@@ -0,0 +1,21 @@
+-- H2 twin of db/migration/mssql/V1, used by the test profile.
+CREATE SEQUENCE clients_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE clients (
+    id             BIGINT        NOT NULL,
+    uuid           VARCHAR(36)   NOT NULL,
+    first_name     VARCHAR(100)  NOT NULL,
+    second_name    VARCHAR(100),
+    first_surname  VARCHAR(100)  NOT NULL,
+    second_surname VARCHAR(100),
+    email          VARCHAR(255)  NOT NULL,
+    address        VARCHAR(500)  NOT NULL,
+    phone          VARCHAR(20)   NOT NULL,
+    country_code   VARCHAR(2)    NOT NULL,
+    demonym        VARCHAR(100),
+    active         BOOLEAN       NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT pk_clients PRIMARY KEY (id),
+    CONSTRAINT uk_clients_uuid UNIQUE (uuid)
+);
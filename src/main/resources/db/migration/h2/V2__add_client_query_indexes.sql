@@ -0,0 +1,12 @@
+-- H2 twin of db/migration/mssql/V2. H2 has no filtered indexes, so active is a key column here,
+-- and "unique among active clients" goes through generated columns that are NULL for inactive rows
+-- (unique indexes allow any number of NULLs).
+ALTER TABLE clients ADD COLUMN active_email VARCHAR(255) GENERATED ALWAYS AS (CASE WHEN active THEN email END);
+ALTER TABLE clients ADD COLUMN active_phone VARCHAR(20) GENERATED ALWAYS AS (CASE WHEN active THEN phone END);
+CREATE UNIQUE INDEX uk_client_email ON clients (active_email);
+CREATE UNIQUE INDEX uk_client_phone ON clients (active_phone);
+
+CREATE INDEX idx_clients_active_email ON clients (active, email);
+CREATE INDEX idx_clients_active_phone ON clients (active, phone);
+CREATE INDEX idx_clients_active_country_code ON clients (active, country_code);
+CREATE INDEX idx_clients_active_created_at_id ON clients (active, created_at DESC, id DESC);
@@ -0,0 +1,7 @@
+-- H2 twin of db/migration/mssql/V3. H2 turns an IN list into index seeks only on the leading index
+-- column, so with (active, email) the set-wise duplicate check of bulk imports scanned every active row.
+-- Single-value lookups still seek on both columns.
+DROP INDEX idx_clients_active_email;
+DROP INDEX idx_clients_active_phone;
+CREATE INDEX idx_clients_active_email ON clients (email, active);
+CREATE INDEX idx_clients_active_phone ON clients (phone, active);
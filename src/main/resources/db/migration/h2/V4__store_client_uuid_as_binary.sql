@@ -0,0 +1,8 @@
+-- H2 twin of db/migration/mssql/V4: the public client id becomes 16 big-endian bytes.
+ALTER TABLE clients ADD COLUMN uuid_bin BINARY(16);
+UPDATE clients SET uuid_bin = CAST(CAST(uuid AS UUID) AS BINARY(16));
+ALTER TABLE clients DROP CONSTRAINT uk_clients_uuid;
+ALTER TABLE clients DROP COLUMN uuid;
+ALTER TABLE clients ALTER COLUMN uuid_bin RENAME TO uuid;
+ALTER TABLE clients ALTER COLUMN uuid SET NOT NULL;
+ALTER TABLE clients ADD CONSTRAINT uk_clients_uuid UNIQUE (uuid);
@@ -0,0 +1,2 @@
+-- H2 twin of db/migration/mssql/V5: optimistic-lock version, bumped by Hibernate on every update.
+ALTER TABLE clients ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
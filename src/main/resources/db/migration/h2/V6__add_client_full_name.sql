@@ -0,0 +1,7 @@
+-- H2 twin of db/migration/mssql/V6: the display name, stored and kept current by Client.
+ALTER TABLE clients ADD COLUMN full_name VARCHAR(403);
+UPDATE clients SET full_name = first_name
+    || CASE WHEN TRIM(COALESCE(second_name, '')) = '' THEN '' ELSE ' ' || second_name END
+    || ' ' || first_surname
+    || CASE WHEN TRIM(COALESCE(second_surname, '')) = '' THEN '' ELSE ' ' || second_surname END;
+ALTER TABLE clients ALTER COLUMN full_name SET NOT NULL;
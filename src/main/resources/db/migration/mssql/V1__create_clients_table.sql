@@ -0,0 +1,23 @@
+-- Matches the schema Hibernate used to generate for Client, so databases created that way can be
+-- baselined at version 1 (quarkus.flyway.baseline-on-migrate).
+CREATE SEQUENCE clients_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE clients (
+    id             BIGINT        NOT NULL,
+    uuid           VARCHAR(36)   NOT NULL,
+    first_name     VARCHAR(100)  NOT NULL,
+    second_name    VARCHAR(100),
+    first_surname  VARCHAR(100)  NOT NULL,
+    second_surname VARCHAR(100),
+    email          VARCHAR(255)  NOT NULL,
+    address        VARCHAR(500)  NOT NULL,
+    phone          VARCHAR(20)   NOT NULL,
+    country_code   VARCHAR(2)    NOT NULL,
+    demonym        VARCHAR(100),
+    active         BIT           NOT NULL,
+    created_at     DATETIME2(6)  NOT NULL,
+    updated_at     DATETIME2(6),
+    CONSTRAINT pk_clients PRIMARY KEY CLUSTERED (id),
+    -- Random v4 UUIDs insert all over this index; leave room on each page to delay splits
+    CONSTRAINT uk_clients_uuid UNIQUE NONCLUSTERED (uuid) WITH (FILLFACTOR = 80)
+);
@@ -0,0 +1,23 @@
+-- One index per ClientRepository query shape. Every query filters on active = 1, so the indexes
+-- are filtered on it: soft-deleted rows take no index space and the predicate needs no key column.
+-- Guarded so databases baselined from the Hibernate-generated schema can run it too.
+
+-- Unique among active clients only; soft-deleted rows may repeat email and phone.
+-- These also serve findByEmail and the findDuplicateFields probes.
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'uk_client_email' AND object_id = OBJECT_ID('clients'))
+    CREATE UNIQUE NONCLUSTERED INDEX uk_client_email ON clients (email)
+        WHERE active = 1 WITH (DATA_COMPRESSION = PAGE);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'uk_client_phone' AND object_id = OBJECT_ID('clients'))
+    CREATE UNIQUE NONCLUSTERED INDEX uk_client_phone ON clients (phone)
+        WHERE active = 1 WITH (DATA_COMPRESSION = PAGE);
+
+-- findByCountryCode / countActiveByCountryCode
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_clients_active_country_code' AND object_id = OBJECT_ID('clients'))
+    CREATE NONCLUSTERED INDEX idx_clients_active_country_code ON clients (country_code)
+        WHERE active = 1 WITH (DATA_COMPRESSION = PAGE);
+
+-- findPageOrderByCreatedAtDesc: keyset seek on (created_at, id), newest first
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_clients_active_created_at_id' AND object_id = OBJECT_ID('clients'))
+    CREATE NONCLUSTERED INDEX idx_clients_active_created_at_id ON clients (created_at DESC, id DESC)
+        WHERE active = 1;
@@ -0,0 +1,10 @@
+-- Value-first indexes for the email/phone lookups and the IN-list duplicate checks of bulk imports,
+-- the same ones h2/V3 creates, so both vendors keep one index set and one version history.
+-- They overlap uk_client_email / uk_client_phone, which lead with the value too but cover active rows only.
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_clients_active_email' AND object_id = OBJECT_ID('clients'))
+    CREATE NONCLUSTERED INDEX idx_clients_active_email ON clients (email, active)
+        WITH (DATA_COMPRESSION = PAGE);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_clients_active_phone' AND object_id = OBJECT_ID('clients'))
+    CREATE NONCLUSTERED INDEX idx_clients_active_phone ON clients (phone, active)
+        WITH (DATA_COMPRESSION = PAGE);
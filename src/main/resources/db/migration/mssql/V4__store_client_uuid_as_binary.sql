@@ -0,0 +1,34 @@
+-- Stores the public client id as 16 big-endian bytes instead of VARCHAR(36). New ids are UUIDv7,
+-- whose leading timestamp keeps inserts at the end of the index only under a bytewise sort:
+-- BINARY(16) compares that way, UNIQUEIDENTIFIER would compare the last six bytes first.
+ALTER TABLE clients ADD uuid_bin BINARY(16) NULL;
+GO
+
+-- Style 2 reads the hex digits in textual order (a CONVERT through UNIQUEIDENTIFIER would
+-- byte-swap the first three groups)
+UPDATE clients SET uuid_bin = CONVERT(BINARY(16), REPLACE(uuid, '-', ''), 2);
+GO
+
+-- V1 names the constraint uk_clients_uuid; on databases baselined from the Hibernate-generated
+-- schema it has a generated name
+DECLARE @constraint SYSNAME = (
+    SELECT kc.name
+    FROM sys.key_constraints kc
+    JOIN sys.index_columns ic ON ic.object_id = kc.parent_object_id AND ic.index_id = kc.unique_index_id
+    JOIN sys.columns c ON c.object_id = ic.object_id AND c.column_id = ic.column_id
+    WHERE kc.parent_object_id = OBJECT_ID('clients') AND kc.type = 'UQ' AND c.name = 'uuid');
+IF @constraint IS NOT NULL
+BEGIN
+    DECLARE @sql NVARCHAR(300) = N'ALTER TABLE clients DROP CONSTRAINT ' + QUOTENAME(@constraint);
+    EXEC sp_executesql @sql;
+END
+GO
+
+ALTER TABLE clients DROP COLUMN uuid;
+EXEC sp_rename 'clients.uuid_bin', 'uuid', 'COLUMN';
+GO
+
+ALTER TABLE clients ALTER COLUMN uuid BINARY(16) NOT NULL;
+-- New keys are appended, so pages can be filled (V1 left 20% free for random v4 keys)
+ALTER TABLE clients ADD CONSTRAINT uk_clients_uuid UNIQUE NONCLUSTERED (uuid);
+GO
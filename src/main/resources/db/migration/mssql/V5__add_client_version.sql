@@ -0,0 +1,4 @@
+-- Optimistic locking: Hibernate bumps version on every update and adds it to the UPDATE's WHERE clause,
+-- so a write based on an outdated read changes no row and fails instead of overwriting.
+-- Adding a NOT NULL column with a constant default is a metadata-only change on SQL Server.
+ALTER TABLE clients ADD version BIGINT NOT NULL CONSTRAINT df_clients_version DEFAULT 0;
@@ -0,0 +1,14 @@
+-- Stores the display name that Client.getFullName() used to assemble on every read. Client keeps it
+-- current on insert and whenever a name changes; this backfills existing rows the same way:
+-- names joined by single spaces, skipping blank optional ones. 403 = four names of 100 plus separators.
+ALTER TABLE clients ADD full_name VARCHAR(403) NULL;
+GO
+
+UPDATE clients SET full_name = first_name
+    + CASE WHEN LTRIM(RTRIM(ISNULL(second_name, ''))) = '' THEN '' ELSE ' ' + second_name END
+    + ' ' + first_surname
+    + CASE WHEN LTRIM(RTRIM(ISNULL(second_surname, ''))) = '' THEN '' ELSE ' ' + second_surname END;
+GO
+
+ALTER TABLE clients ALTER COLUMN full_name VARCHAR(403) NOT NULL;
+GO
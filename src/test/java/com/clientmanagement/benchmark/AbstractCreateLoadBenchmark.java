@@ -0,0 +1,174 @@
+package com.clientmanagement.benchmark;
+
+import com.clientmanagement.client.CountryService;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.common.http.TestHTTPResource;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Closed-loop load test for {@code POST /api/v1/clients}: N concurrent callers each send
+ * creates back to back, and we report throughput and latency percentiles per level.
+ *
+ * The country lookup is stubbed with a fixed blocking latency so the difference between
+ * thread modes is visible; subclasses pick the mode through their test profile. While the
+ * test runs, JFR {@code jdk.VirtualThreadPinned} events from server threads are collected
+ * and printed by top application frame.
+ */
+abstract class AbstractCreateLoadBenchmark {
+
+    static final long LOOKUP_LATENCY_MS = 50;
+    static final int[] CONCURRENCY = {50, 200, 1000, 2000};
+    static final int REQUESTS_PER_CALLER = 3;
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @InjectMock
+    CountryService countryService;
+
+    @TestHTTPResource("/api/v1/clients")
+    URI clientsUri;
+
+    /**
+     * Settings shared by both modes: enough DB connections that the pool isn't the limit,
+     * and quiet application logs so logging isn't what we measure.
+     */
+    static Map<String, String> config(boolean virtualThreads) {
+        return Map.of(
+                "quarkus.virtual-threads.enabled", String.valueOf(virtualThreads),
+                "quarkus.datasource.jdbc.max-size", "50",
+                "quarkus.datasource.jdbc.acquisition-timeout", "60S",
+                "quarkus.log.category.\"com.clientmanagement\".level", "WARN");
+    }
+
+    abstract String mode();
+
+    @Test
+    void createUnderLoad() throws Exception {
+        when(countryService.getDemonym(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(LOOKUP_LATENCY_MS);
+            return "Mexican";
+        });
+
+        Map<String, LongAdder> pinnedAt = new ConcurrentHashMap<>();
+        try (RecordingStream pinning = new RecordingStream();
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(callers).build()) {
+
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> {
+                if (event.getThread() != null && event.getThread().getJavaName().startsWith("quarkus-virtual-thread")) {
+                    pinnedAt.computeIfAbsent(topFrame(event.getStackTrace().getFrames()), k -> new LongAdder()).increment();
+                }
+            });
+            pinning.startAsync();
+
+            run(http, callers, 50);
+
+            System.out.printf("%nMode: %s, lookup latency: %d ms, %d available processors%n",
+                    mode(), LOOKUP_LATENCY_MS, Runtime.getRuntime().availableProcessors());
+            System.out.printf("%-10s %10s %12s %10s %10s %10s %8s%n",
+                    "callers", "requests", "creates/s", "p50 (ms)", "p99 (ms)", "max (ms)", "errors");
+            for (int concurrency : CONCURRENCY) {
+                Result result = run(http, callers, concurrency);
+                System.out.printf("%-10d %10d %12.1f %10.1f %10.1f %10.1f %8d%n", concurrency, result.requests,
+                        result.throughput, result.p50Millis, result.p99Millis, result.maxMillis, result.errors);
+                assertEquals(0, result.errors, "every create should succeed");
+            }
+
+            pinning.stop();
+        }
+
+        long pinned = pinnedAt.values().stream().mapToLong(LongAdder::sum).sum();
+        System.out.printf("Pinned virtual thread events on server threads: %d%n", pinned);
+        pinnedAt.forEach((frame, count) -> System.out.printf("  %6d  %s%n", count.sum(), frame));
+    }
+
+    private Result run(HttpClient http, ExecutorService callers, int concurrency) throws Exception {
+        int total = concurrency * REQUESTS_PER_CALLER;
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        LongAdder errors = new LongAdder();
+
+        long start = System.nanoTime();
+        List<Future<?>> tasks = new ArrayList<>(concurrency);
+        for (int c = 0; c < concurrency; c++) {
+            tasks.add(callers.submit(() -> {
+                for (int i = 0; i < REQUESTS_PER_CALLER; i++) {
+                    long sent = System.nanoTime();
+                    int status = create(http);
+                    latencies[next.getAndIncrement()] = System.nanoTime() - sent;
+                    if (status != 201) {
+                        errors.increment();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        return new Result(total, total / seconds, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                latencies[total - 1] / 1_000_000.0, errors.sum());
+    }
+
+    private int create(HttpClient http) {
+        int n = SEQUENCE.incrementAndGet();
+        String body = String.format("""
+                {"firstName":"Load","firstSurname":"Test","email":"load%d@example.com",\
+                "address":"1 Load Street","phone":"+1-555-%07d","countryCode":"MX"}""", n, n);
+        HttpRequest request = HttpRequest.newBuilder(clientsUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .timeout(Duration.ofSeconds(120))
+                .build();
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static String topFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return frames.isEmpty() ? "<no stack>" : frames.get(0).getMethod().getType().getName();
+    }
+
+    private record Result(int requests, double throughput, double p50Millis, double p99Millis, double maxMillis,
+                          long errors) {
+    }
+}
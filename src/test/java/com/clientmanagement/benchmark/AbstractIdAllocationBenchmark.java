@@ -0,0 +1,121 @@
+package com.clientmanagement.benchmark;
+
+import com.clientmanagement.client.CountryService;
+import com.clientmanagement.dto.client.BulkImportReport;
+import com.clientmanagement.dto.client.CreateClientRequest;
+import com.clientmanagement.service.ClientService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.InjectMock;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Create throughput for one id allocation size, through {@link ClientService#createClient}
+ * (one transaction per client) and {@link ClientService#importClients} (JDBC-batched inserts).
+ * Besides creates per second it prints sequence calls and JDBC statements per client. The
+ * database is H2 served over TCP ({@link H2TcpServer}), so each statement is a loopback round
+ * trip; against a remote SQL Server every one of them costs more. Subclasses pick the size
+ * through their test profile.
+ *
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest='*IdAllocationBenchmark'}.
+ */
+abstract class AbstractIdAllocationBenchmark {
+
+    static final int SINGLE_CREATES = 2_000;
+    static final int BULK_CREATES = 20_000;
+    static final int WARMUP_CREATES = 500;
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @InjectMock
+    CountryService countryService;
+
+    private int next;
+
+    static Map<String, String> config(int allocationSize) {
+        return Map.of(
+                "client.id.allocation-size", String.valueOf(allocationSize),
+                "quarkus.hibernate-orm.statistics", "true",
+                "quarkus.log.category.\"com.clientmanagement\".level", "WARN");
+    }
+
+    abstract int allocationSize();
+
+    @Test
+    void compareSingleAndBulkCreates() {
+        when(countryService.getDemonym(anyString())).thenReturn("Mexican");
+        assertEquals(allocationSize(), sequenceIncrement(), "clients_seq should step by the allocation size");
+
+        single(WARMUP_CREATES);
+        bulk(WARMUP_CREATES);
+
+        System.out.printf("%nId allocation size: %d, JDBC batch size: 50%n", allocationSize());
+        System.out.printf("%-8s %10s %12s %16s %18s%n", "path", "clients", "creates/s", "seq calls/client", "statements/client");
+        report("single", SINGLE_CREATES, () -> single(SINGLE_CREATES));
+        report("bulk", BULK_CREATES, () -> bulk(BULK_CREATES));
+    }
+
+    private void single(int count) {
+        for (int i = 0; i < count; i++) {
+            clientService.createClient(request());
+        }
+    }
+
+    private void bulk(int count) {
+        BulkImportReport report = clientService.importClients(
+                IntStream.range(0, count).mapToObj(i -> request()).iterator());
+        assertEquals(count, report.created);
+    }
+
+    private void report(String path, int count, Runnable creates) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        long sequenceBefore = sequenceValue();
+
+        long start = System.nanoTime();
+        creates.run();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // Draws made by the creates only; the two reads of the sequence don't draw
+        double sequenceCalls = (double) (sequenceValue() - sequenceBefore) / allocationSize();
+        System.out.printf("%-8s %10d %12.1f %16.3f %18.3f%n", path, count, count / seconds,
+                sequenceCalls / count, (double) statistics.getPrepareStatementCount() / count);
+    }
+
+    private long sequenceIncrement() {
+        return sequenceColumn("INCREMENT");
+    }
+
+    private long sequenceValue() {
+        return sequenceColumn("BASE_VALUE");
+    }
+
+    private long sequenceColumn(String column) {
+        return QuarkusTransaction.requiringNew().call(() -> ((Number) entityManager.createNativeQuery(
+                "SELECT " + column + " FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'CLIENTS_SEQ'")
+                .getSingleResult()).longValue());
+    }
+
+    private CreateClientRequest request() {
+        int n = ++next;
+        return new CreateClientRequest("Bench", null, "Client", null, "ids" + n + "@bench.test",
+                "1 Bench Street", String.format("+1-556-%07d", n), "MX");
+    }
+}
@@ -0,0 +1,109 @@
+package com.clientmanagement.benchmark;
+
+import com.clientmanagement.dto.client.ClientResponse;
+import com.clientmanagement.entity.Client;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Maps {@code benchmark.clients} clients (100,000 by default) to responses, once with
+ * {@link ClientResponse#fromEntity} and the full name loaded from the full_name column, and once
+ * assembling the full name with {@link Client#fullName} for every client, as the mapping did
+ * before the column existed. Reports time and bytes allocated by the calling thread per client.
+ *
+ * Needs no database. Run with {@code ./mvnw test -Pbenchmark -Dtest=ClientMappingBenchmark}.
+ */
+class ClientMappingBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 100_000);
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Keeps the mapped lists reachable so the JIT can't drop the work
+    private static Object sink;
+
+    @Test
+    void compareStoredWithAssembledFullName() {
+        List<Client> clients = clients();
+        assertEquals(assembled(clients.get(1)).fullName, ClientResponse.fromEntity(clients.get(1)).fullName);
+
+        measure(clients, ClientMappingBenchmark::assembled, WARMUP_ROUNDS);
+        measure(clients, ClientResponse::fromEntity, WARMUP_ROUNDS);
+        Timing assembledTiming = measure(clients, ClientMappingBenchmark::assembled, MEASURED_ROUNDS);
+        Timing storedTiming = measure(clients, ClientResponse::fromEntity, MEASURED_ROUNDS);
+
+        System.out.printf("%nMapping %,d clients%n", CLIENTS);
+        System.out.printf("%-22s %14s %16s%n", "full name", "ns / client", "bytes / client");
+        System.out.printf("%-22s %14.1f %16.1f%n", "assembled per call", assembledTiming.nanos, assembledTiming.bytes);
+        System.out.printf("%-22s %14.1f %16.1f%n", "stored", storedTiming.nanos, storedTiming.bytes);
+
+        assertTrue(storedTiming.bytes < assembledTiming.bytes, "a stored full name should save the per-client strings");
+    }
+
+    /**
+     * The mapping before the full_name column: the same copy, plus a freshly built full name.
+     */
+    private static ClientResponse assembled(Client client) {
+        ClientResponse response = ClientResponse.fromEntity(client);
+        response.fullName = Client.fullName(client.firstName, client.secondName, client.firstSurname, client.secondSurname);
+        return response;
+    }
+
+    private static Timing measure(List<Client> clients, Function<Client, ClientResponse> mapping, int rounds) {
+        long thread = Thread.currentThread().threadId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            List<ClientResponse> responses = new ArrayList<>(clients.size());
+            for (Client client : clients) {
+                responses.add(mapping.apply(client));
+            }
+            sink = responses;
+        }
+        long mapped = (long) rounds * clients.size();
+        return new Timing((double) (System.nanoTime() - start) / mapped,
+                (double) (THREADS.getThreadAllocatedBytes(thread) - allocatedBefore) / mapped);
+    }
+
+    /**
+     * Every other client has the optional names, so both branches of the assembly are taken.
+     */
+    private static List<Client> clients() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Client> clients = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            Client client = new Client();
+            client.id = (long) i;
+            client.uuid = "00000000-0000-7000-8000-" + String.format("%012d", i);
+            client.firstName = "First" + i;
+            client.secondName = i % 2 == 0 ? null : "Second" + i;
+            client.firstSurname = "Surname" + i;
+            client.secondSurname = i % 2 == 0 ? "" : "Other" + i;
+            client.email = "client" + i + "@bench.test";
+            client.address = i + " Bench Street";
+            client.phone = "+1-" + i;
+            client.countryCode = "US";
+            client.demonym = "American";
+            client.createdAt = now;
+            client.updatedAt = now;
+            // As loaded from the full_name column
+            client.refreshFullName();
+            clients.add(client);
+        }
+        return clients;
+    }
+
+    private record Timing(double nanos, double bytes) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.clientmanagement.benchmark;
+
+import com.clientmanagement.client.CountryService;
+import com.clientmanagement.dto.client.CreateClientRequest;
+import com.clientmanagement.repository.ClientRepository;
+import com.clientmanagement.service.ClientService;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares connection hold time and pool saturation for concurrent creates when the
+ * country lookup runs inside the transaction (the old shape) versus before it.
+ *
+ * The lookup is stubbed with a fixed latency to stand in for a remote call; the pool is
+ * deliberately small so saturation shows up at low concurrency.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=ClientWritePathBenchmark}.
+ */
+@QuarkusTest
+@TestProfile(ClientWritePathBenchmark.SmallPoolProfile.class)
+class ClientWritePathBenchmark {
+
+    private static final long LOOKUP_LATENCY_MS = 50;
+    private static final int POOL_SIZE = 4;
+    private static final int CREATES_PER_THREAD = 10;
+    private static final int[] CONCURRENCY = {1, 2, 4, 8, 16, 32};
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    // Only exists under SmallPoolProfile; looked up lazily so other test runs still deploy
+    @Inject
+    Instance<ConnectionHoldTimer> holdTimer;
+
+    @InjectMock
+    CountryService countryService;
+
+    public static class SmallPoolProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "benchmark.connection-timer", "true",
+                    "quarkus.datasource.metrics.enabled", "true",
+                    "quarkus.datasource.jdbc.max-size", String.valueOf(POOL_SIZE),
+                    "quarkus.datasource.jdbc.acquisition-timeout", "60S",
+                    "quarkus.log.category.\"com.clientmanagement\".level", "WARN");
+        }
+    }
+
+    @Test
+    void compareLookupInsideAndOutsideTransaction() throws Exception {
+        when(countryService.getDemonym(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(LOOKUP_LATENCY_MS);
+            return "Mexican";
+        });
+
+        // Warm up both paths so class loading and JIT don't land in the first row
+        run(8, this::createWithLookupInsideTransaction);
+        run(8, clientService::createClient);
+
+        System.out.printf("%nConnection pool: %d connections, lookup latency: %d ms%n", POOL_SIZE, LOOKUP_LATENCY_MS);
+        System.out.printf("%-12s %-8s %12s %14s %14s %14s%n",
+                "path", "threads", "creates/s", "hold avg (ms)", "hold max (ms)", "wait avg (ms)");
+
+        Result lastInside = null;
+        Result lastOutside = null;
+        for (int threads : CONCURRENCY) {
+            lastInside = run(threads, this::createWithLookupInsideTransaction);
+            lastOutside = run(threads, clientService::createClient);
+            print("inside-tx", threads, lastInside);
+            print("before-tx", threads, lastOutside);
+        }
+
+        assertTrue(lastOutside.meanHoldMillis < lastInside.meanHoldMillis,
+                "connections should be held for less time when the lookup runs before the transaction");
+    }
+
+    /**
+     * Reproduces the previous pipeline: the transaction has already touched the database
+     * (duplicate checks) when the country lookup runs, so the connection waits on it.
+     */
+    private void createWithLookupInsideTransaction(CreateClientRequest request) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.findDuplicateFields(request.email, request.phone, null);
+            clientService.createClient(request);
+        });
+    }
+
+    private Result run(int threads, Consumer<CreateClientRequest> create) throws Exception {
+        holdTimer.get().reset();
+        dataSource.getMetrics().reset();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        int total = threads * CREATES_PER_THREAD;
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(total);
+            for (int i = 0; i < total; i++) {
+                futures.add(pool.submit(() -> create.accept(newRequest())));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        return new Result(total / seconds, holdTimer.get().meanHoldMillis(), holdTimer.get().maxHoldMillis(),
+                dataSource.getMetrics().blockingTimeAverage().toNanos() / 1_000_000.0);
+    }
+
+    private static CreateClientRequest newRequest() {
+        int n = SEQUENCE.incrementAndGet();
+        CreateClientRequest request = new CreateClientRequest();
+        request.firstName = "Bench";
+        request.firstSurname = "Mark";
+        request.email = "bench" + n + "@example.com";
+        request.address = "1 Benchmark Street";
+        request.phone = String.format("+1-555-%07d", n);
+        request.countryCode = "MX";
+        return request;
+    }
+
+    private static void print(String path, int threads, Result result) {
+        System.out.printf("%-12s %-8d %12.1f %14.2f %14.2f %14.2f%n",
+                path, threads, result.throughput, result.meanHoldMillis, result.maxHoldMillis, result.meanWaitMillis);
+    }
+
+    private record Result(double throughput, double meanHoldMillis, double maxHoldMillis, double meanWaitMillis) {
+    }
+}
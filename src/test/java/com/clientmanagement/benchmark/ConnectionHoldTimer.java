@@ -0,0 +1,67 @@
+package com.clientmanagement.benchmark;
+
+import io.agroal.api.AgroalPoolInterceptor;
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how long each pooled JDBC connection is checked out, from acquire to return.
+ * Only registered by benchmark profiles that set {@code benchmark.connection-timer=true}.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "benchmark.connection-timer", stringValue = "true")
+public class ConnectionHoldTimer implements AgroalPoolInterceptor {
+
+    private final Map<Connection, Long> acquiredAt = new ConcurrentHashMap<>();
+    private final LongAdder holds = new LongAdder();
+    private final LongAdder totalHoldNanos = new LongAdder();
+    private final AtomicLong maxHoldNanos = new AtomicLong();
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        acquiredAt.put(physical(connection), System.nanoTime());
+    }
+
+    @Override
+    public void onConnectionReturn(Connection connection) {
+        Long start = acquiredAt.remove(physical(connection));
+        if (start == null) {
+            return;
+        }
+        long held = System.nanoTime() - start;
+        holds.increment();
+        totalHoldNanos.add(held);
+        maxHoldNanos.accumulateAndGet(held, Math::max);
+    }
+
+    // Acquire and return can see different pool wrappers around the same physical connection
+    private static Connection physical(Connection connection) {
+        try {
+            return connection.unwrap(Connection.class);
+        } catch (SQLException e) {
+            return connection;
+        }
+    }
+
+    public void reset() {
+        holds.reset();
+        totalHoldNanos.reset();
+        maxHoldNanos.set(0);
+    }
+
+    public double meanHoldMillis() {
+        long count = holds.sum();
+        return count == 0 ? 0 : totalHoldNanos.sum() / (count * 1_000_000.0);
+    }
+
+    public double maxHoldMillis() {
+        return maxHoldNanos.get() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,34 @@
+package com.clientmanagement.benchmark;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import org.h2.tools.Server;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Serves the test database over H2's TCP protocol on localhost, so every JDBC statement is a
+ * real socket round trip, as it would be against SQL Server, instead of an in-process call.
+ */
+public class H2TcpServer implements QuarkusTestResourceLifecycleManager {
+
+    private Server server;
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not start the H2 TCP server", e);
+        }
+        return Map.of("quarkus.datasource.jdbc.url",
+                "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:benchmark;DB_CLOSE_DELAY=-1");
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.clientmanagement.benchmark;
+
+import com.clientmanagement.dto.client.ClientResponse;
+import com.clientmanagement.dto.common.ApiResponse;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Serializes a single-client envelope and a {@code benchmark.clients}-client list envelope
+ * (10,000 by default) with the application's ObjectMapper, once through the reflective bean
+ * serializers and once through ClientResponseSerializer / ApiResponseSerializer. Both use a
+ * cached ObjectWriter and write to a discarding stream, like the REST layer writing into the
+ * response buffer. Reports throughput and bytes allocated by the calling thread per envelope.
+ *
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=JsonSerializationBenchmark}.
+ */
+@QuarkusTest
+class JsonSerializationBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 10_000);
+    private static final long SINGLE_OPS = 200_000;
+    private static final long LIST_OPS = 200;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    abstract static class Reflective {
+    }
+
+    @Test
+    void compareReflectiveWithHandWrittenSerializers() throws IOException {
+        ObjectMapper reflective = objectMapper.copy()
+                .addMixIn(ClientResponse.class, Reflective.class)
+                .addMixIn(ApiResponse.class, Reflective.class);
+        ObjectWriter before = reflective.writerFor(ApiResponse.class);
+        ObjectWriter after = objectMapper.writerFor(ApiResponse.class);
+
+        List<ClientResponse> clients = clients();
+        ApiResponse<ClientResponse> single = ApiResponse.ok(clients.get(0), "Client retrieved successfully");
+        ApiResponse<List<ClientResponse>> list = ApiResponse.page(clients, "bmV4dA", "Clients retrieved successfully");
+        assertArrayEquals(before.writeValueAsBytes(list), after.writeValueAsBytes(list));
+
+        System.out.printf("%n%-26s %14s %14s %16s %16s%n",
+                "envelope", "before (op/s)", "after (op/s)", "before (B/op)", "after (B/op)");
+        Result singleResult = compare("1 client (" + before.writeValueAsBytes(single).length + " B)",
+                before, after, single, SINGLE_OPS);
+        Result listResult = compare(String.format("%,d clients (%,d KB)", CLIENTS, before.writeValueAsBytes(list).length / 1024),
+                before, after, list, LIST_OPS);
+
+        assertTrue(singleResult.afterBytes < singleResult.beforeBytes, "the single envelope should allocate less");
+        assertTrue(listResult.afterOps > listResult.beforeOps, "the list envelope should serialize faster");
+    }
+
+    private static Result compare(String shape, ObjectWriter before, ObjectWriter after, Object value, long ops) throws IOException {
+        time(before, value, ops);
+        time(after, value, ops);
+        Timing beforeTiming = time(before, value, ops);
+        Timing afterTiming = time(after, value, ops);
+        System.out.printf("%-26s %14.0f %14.0f %16.0f %16.0f%n", shape,
+                beforeTiming.opsPerSecond, afterTiming.opsPerSecond, beforeTiming.bytesPerOp, afterTiming.bytesPerOp);
+        return new Result(beforeTiming.opsPerSecond, afterTiming.opsPerSecond, beforeTiming.bytesPerOp, afterTiming.bytesPerOp);
+    }
+
+    private static Timing time(ObjectWriter writer, Object value, long ops) throws IOException {
+        OutputStream discard = new Discard();
+        long thread = Thread.currentThread().threadId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (long i = 0; i < ops; i++) {
+            writer.writeValue(discard, value);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Timing(ops * 1_000_000_000.0 / elapsed,
+                (double) (THREADS.getThreadAllocatedBytes(thread) - allocatedBefore) / ops);
+    }
+
+    private static List<ClientResponse> clients() {
+        LocalDateTime now = LocalDateTime.of(2026, 2, 20, 22, 17, 38, 123_456_000);
+        List<ClientResponse> clients = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            LocalDateTime createdAt = now.minusSeconds(i);
+            clients.add(new ClientResponse((long) i, "0190a5b2-7c3d-7e4f-8a1b-" + String.format("%012d", i),
+                    "First" + i, i % 2 == 0 ? null : "Second" + i, "Surname" + i, i % 2 == 0 ? null : "Other" + i,
+                    "First" + i + " Surname" + i, "client" + i + "@bench.test", i + " Bench Street", "+1-555-" + i,
+                    "US", "American", true, createdAt, i % 3 == 0 ? null : createdAt.plusMinutes(5)));
+        }
+        return clients;
+    }
+
+    /**
+     * Drops everything and survives the close() of every writeValue.
+     */
+    private static final class Discard extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    private record Timing(double opsPerSecond, double bytesPerOp) {
+    }
+
+    private record Result(double beforeOps, double afterOps, double beforeBytes, double afterBytes) {
+    }
+}
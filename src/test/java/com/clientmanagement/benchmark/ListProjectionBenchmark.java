@@ -0,0 +1,206 @@
+package com.clientmanagement.benchmark;
+
+import com.clientmanagement.dto.client.ClientField;
+import com.clientmanagement.dto.client.ClientResponse;
+import com.clientmanagement.dto.common.ApiResponse;
+import com.clientmanagement.entity.Client;
+import com.clientmanagement.repository.ClientRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares loading managed {@link Client} entities and mapping them with
+ * {@link ClientResponse#fromEntity} (the listing before constructor-expression projections)
+ * with the projections behind {@link ClientRepository#findPageOrderByCreatedAtDesc} and
+ * {@link ClientRepository#findByCountryCode}, on a seeded H2 table of {@code benchmark.rows}
+ * clients (200,000 by default, spread over 20 countries). Each call runs in its own transaction,
+ * like a request, and reports time and bytes allocated by the calling thread. A second comparison
+ * renders the first page with every field and with {@code ?fields=id,email,countryCode}, query
+ * and serialization together, and reports the response size as well.
+ *
+ * The database lives in a file under target/ so the table isn't bounded by the test heap.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=ListProjectionBenchmark [-Dbenchmark.rows=1000000]}.
+ */
+@QuarkusTest
+@TestProfile(ListProjectionBenchmark.FileDatabaseProfile.class)
+class ListProjectionBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int COUNTRIES = 20;
+    private static final int PAGE_SIZE = 200;
+    private static final int SEED_BATCH = 250_000;
+    private static final int WARMUP_CALLS = 30;
+    private static final int MEASURED_CALLS = 100;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private static boolean seeded;
+
+    public static class FileDatabaseProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.datasource.jdbc.url", "jdbc:h2:file:./target/list-projection-benchmark;CACHE_SIZE=262144",
+                    "quarkus.log.category.\"com.clientmanagement\".level", "WARN");
+        }
+    }
+
+    @Test
+    void compareEntitiesWithProjections() {
+        seedOnce();
+
+        String[] countries = {"AX", "BX"};
+        System.out.printf("%-28s %12s %12s %14s %14s%n", "shape", "entity (us)", "dto (us)", "entity (KB)", "dto (KB)");
+
+        Result page = compare("first page, " + PAGE_SIZE + " rows",
+                i -> clientRepository.find("active = true ORDER BY createdAt DESC, id DESC")
+                        .range(0, PAGE_SIZE - 1).list().stream()
+                        .map(ClientResponse::fromEntity)
+                        .collect(Collectors.toList()),
+                i -> clientRepository.findPageOrderByCreatedAtDesc(null, null, PAGE_SIZE, ClientField.ALL));
+        Result country = compare("country, ~" + ROWS / COUNTRIES / 1000 + "k rows",
+                i -> clientRepository.list("countryCode = ?1 and active = true", countries[i % 2]).stream()
+                        .map(ClientResponse::fromEntity)
+                        .collect(Collectors.toList()),
+                i -> clientRepository.findByCountryCode(countries[i % 2], ClientField.ALL));
+
+        assertTrue(page.dtoBytes < page.entityBytes, "projecting a page should allocate less than managing it");
+        assertTrue(country.dtoBytes < country.entityBytes, "projecting a country should allocate less than managing it");
+    }
+
+    @Test
+    void compareAllFieldsWithSparseFieldset() throws JsonProcessingException {
+        seedOnce();
+        ObjectWriter writer = objectMapper.writerFor(ApiResponse.class);
+        Set<ClientField> sparse = ClientField.parse("id,email,countryCode");
+
+        int allBytes = writer.writeValueAsBytes(page(ClientField.ALL)).length;
+        int sparseBytes = writer.writeValueAsBytes(page(sparse)).length;
+        System.out.printf("%-28s %12s %12s %14s %14s%n", "first page, " + PAGE_SIZE + " rows",
+                "all (us)", "sparse (us)", "all (KB)", "sparse (KB)");
+        Timing all = render(writer, ClientField.ALL);
+        Timing selected = render(writer, sparse);
+        System.out.printf("%-28s %12.1f %12.1f %14.1f %14.1f%n", "query + serialize", all.micros, selected.micros,
+                all.bytes / 1024.0, selected.bytes / 1024.0);
+        System.out.printf("%-28s %12s %12s %14.1f %14.1f%n", "response body", "", "", allBytes / 1024.0, sparseBytes / 1024.0);
+
+        assertTrue(sparseBytes * 3 < allBytes, "three of fourteen fields should shrink the body to well under a third");
+        assertTrue(selected.bytes < all.bytes, "a sparse page should allocate less than a full one");
+    }
+
+    private ApiResponse<List<ClientResponse>> page(Set<ClientField> fields) {
+        List<ClientResponse> clients = QuarkusTransaction.requiringNew().call(
+                () -> clientRepository.findPageOrderByCreatedAtDesc(null, null, PAGE_SIZE, fields));
+        return ApiResponse.page(clients, null, "Clients retrieved successfully");
+    }
+
+    private Timing render(ObjectWriter writer, Set<ClientField> fields) throws JsonProcessingException {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            writer.writeValueAsBytes(page(fields));
+        }
+        long thread = Thread.currentThread().threadId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            writer.writeValueAsBytes(page(fields));
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / MEASURED_CALLS;
+        double bytes = (double) (THREADS.getThreadAllocatedBytes(thread) - allocatedBefore) / MEASURED_CALLS;
+        return new Timing(PAGE_SIZE, micros, bytes);
+    }
+
+    private void seedOnce() {
+        if (seeded) {
+            return;
+        }
+        long seedStart = System.nanoTime();
+        seed();
+        seeded = true;
+        System.out.printf("%nSeeded %,d clients in %.1f s%n", ROWS, (System.nanoTime() - seedStart) / 1_000_000_000.0);
+    }
+
+    /**
+     * Replaces the sample rows with generated ones, inserted straight from H2's SYSTEM_RANGE
+     * (bypassing Hibernate) in a few large transactions.
+     */
+    private void seed() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.deleteAll());
+        for (int from = 1; from <= ROWS; from += SEED_BATCH) {
+            int to = Math.min(from + SEED_BATCH - 1, ROWS);
+            int first = from;
+            QuarkusTransaction.requiringNew().timeout(600).run(() -> entityManager.createNativeQuery("""
+                    INSERT INTO clients (id, uuid, first_name, second_name, first_surname, second_surname, full_name,
+                                         email, address, phone, country_code, demonym, active, created_at, updated_at)
+                    SELECT x, CAST(RANDOM_UUID() AS BINARY(16)), 'Seed', 'Middle', 'Client', 'Last', 'Seed Middle Client Last',
+                           'seed' || x || '@bench.test', x || ' Seed Street', '+1-' || LPAD(CAST(x AS VARCHAR), 10, '0'),
+                           CHAR(65 + MOD(x, ?3)) || 'X', 'Seeder', TRUE,
+                           DATEADD('SECOND', x, TIMESTAMP '2020-01-01 00:00:00'), NULL
+                    FROM SYSTEM_RANGE(?1, ?2)""")
+                    .setParameter(1, first)
+                    .setParameter(2, to)
+                    .setParameter(3, COUNTRIES)
+                    .executeUpdate());
+        }
+        long count = QuarkusTransaction.requiringNew().call(() -> clientRepository.count());
+        assertEquals(ROWS, count);
+    }
+
+    private Result compare(String shape, IntFunction<List<ClientResponse>> entities, IntFunction<List<ClientResponse>> dtos) {
+        assertEquals(time(entities, WARMUP_CALLS).rows, time(dtos, WARMUP_CALLS).rows, shape);
+
+        Timing entityTiming = time(entities, MEASURED_CALLS);
+        Timing dtoTiming = time(dtos, MEASURED_CALLS);
+        Result result = new Result(entityTiming.micros, dtoTiming.micros, entityTiming.bytes, dtoTiming.bytes);
+        System.out.printf("%-28s %12.1f %12.1f %14.1f %14.1f%n", shape, result.entityMicros, result.dtoMicros,
+                result.entityBytes / 1024.0, result.dtoBytes / 1024.0);
+        return result;
+    }
+
+    private Timing time(IntFunction<List<ClientResponse>> list, int calls) {
+        long thread = Thread.currentThread().threadId();
+        int rows = 0;
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            int call = i;
+            rows = QuarkusTransaction.requiringNew().timeout(600).call(() -> list.apply(call).size());
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / calls;
+        double bytes = (double) (THREADS.getThreadAllocatedBytes(thread) - allocatedBefore) / calls;
+        return new Timing(rows, micros, bytes);
+    }
+
+    private record Timing(int rows, double micros, double bytes) {
+    }
+
+    private record Result(double entityMicros, double dtoMicros, double entityBytes, double dtoBytes) {
+    }
+}
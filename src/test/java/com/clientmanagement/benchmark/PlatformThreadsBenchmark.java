@@ -0,0 +1,29 @@
+package com.clientmanagement.benchmark;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+import java.util.Map;
+
+/**
+ * Create load test with {@code ClientResource} on the worker pool (the default mode).
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest='*ThreadsBenchmark'} to compare with
+ * {@link VirtualThreadsBenchmark}.
+ */
+@QuarkusTest
+@TestProfile(PlatformThreadsBenchmark.Profile.class)
+class PlatformThreadsBenchmark extends AbstractCreateLoadBenchmark {
+
+    public static class Profile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return config(false);
+        }
+    }
+
+    @Override
+    String mode() {
+        return "platform threads (worker pool)";
+    }
+}
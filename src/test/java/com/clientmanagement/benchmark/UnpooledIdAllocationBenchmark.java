@@ -0,0 +1,33 @@
+package com.clientmanagement.benchmark;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Create throughput with one sequence call per client (allocation size 1), the baseline.
+ */
+@QuarkusTest
+@TestProfile(UnpooledIdAllocationBenchmark.Profile.class)
+class UnpooledIdAllocationBenchmark extends AbstractIdAllocationBenchmark {
+
+    public static class Profile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return config(1);
+        }
+
+        @Override
+        public List<TestResourceEntry> testResources() {
+            return List.of(new TestResourceEntry(H2TcpServer.class));
+        }
+    }
+
+    @Override
+    int allocationSize() {
+        return 1;
+    }
+}
@@ -0,0 +1,28 @@
+package com.clientmanagement.benchmark;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+import java.util.Map;
+
+/**
+ * Create load test with {@code ClientResource} on virtual threads
+ * ({@code quarkus.virtual-threads.enabled=true}).
+ */
+@QuarkusTest
+@TestProfile(VirtualThreadsBenchmark.Profile.class)
+class VirtualThreadsBenchmark extends AbstractCreateLoadBenchmark {
+
+    public static class Profile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return config(true);
+        }
+    }
+
+    @Override
+    String mode() {
+        return "virtual threads";
+    }
+}
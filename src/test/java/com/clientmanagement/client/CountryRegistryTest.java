@@ -0,0 +1,59 @@
+package com.clientmanagement.client;
+
+import com.clientmanagement.dto.country.CountryData;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryRegistryTest {
+
+    private static CountryRegistry registry;
+
+    @BeforeAll
+    static void loadSnapshot() throws Exception {
+        try (InputStream in = CountryRegistryTest.class.getClassLoader().getResourceAsStream("countries.json")) {
+            List<CountryData> countries = new ObjectMapper().readValue(in, new TypeReference<List<CountryData>>() { });
+            registry = CountryRegistry.of(countries, CountryService::extractDemonym);
+        }
+    }
+
+    @Test
+    @DisplayName("bundled snapshot covers every ISO code")
+    void shouldLoadFullSnapshot() {
+        assertEquals(250, registry.size());
+    }
+
+    @Test
+    @DisplayName("resolves demonym and name for known codes")
+    void shouldResolveKnownCodes() {
+        assertEquals("Mexican", registry.demonym("MX"));
+        assertEquals("American", registry.demonym("US"));
+        assertEquals("Spain", registry.name("ES"));
+        assertTrue(registry.contains("CO"));
+    }
+
+    @Test
+    @DisplayName("treats malformed or unassigned codes as missing")
+    void shouldRejectUnknownCodes() {
+        assertFalse(registry.contains("RD"));
+        assertNull(registry.demonym("RD"));
+        assertNull(registry.demonym("mx"));
+        assertNull(registry.demonym("USA"));
+        assertNull(registry.demonym("1A"));
+        assertNull(registry.demonym(null));
+    }
+
+    @Test
+    @DisplayName("empty registry knows nothing")
+    void emptyRegistryShouldContainNothing() {
+        assertEquals(0, CountryRegistry.empty().size());
+        assertFalse(CountryRegistry.empty().contains("US"));
+    }
+}
@@ -0,0 +1,219 @@
+package com.clientmanagement.client;
+
+import com.clientmanagement.dto.country.CountryData;
+import com.clientmanagement.dto.country.CountryName;
+import com.clientmanagement.dto.country.DemonymLang;
+import com.clientmanagement.dto.country.Demonyms;
+import com.clientmanagement.exception.CountryServiceException;
+import com.clientmanagement.exception.InvalidCountryCodeException;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.WebApplicationException;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs with the bundled snapshot disabled so every lookup goes through the remote path.
+ */
+@QuarkusTest
+@TestProfile(CountryServiceTest.RemoteOnlyProfile.class)
+class CountryServiceTest {
+
+    private static final int CALLERS = 300;
+
+    @Inject
+    CountryService countryService;
+
+    @InjectMock
+    @RestClient
+    RestCountriesClient restCountriesClient;
+
+    public static class RemoteOnlyProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "country.snapshot.enabled", "false",
+                    // @InjectMock needs a normal-scoped bean to swap in the mock
+                    "quarkus.rest-client.restcountries-api.scope", "jakarta.enterprise.context.ApplicationScoped");
+        }
+    }
+
+    @Inject
+    CircuitBreakerMaintenance circuitBreakers;
+
+    @BeforeEach
+    void setUp() {
+        countryService.invalidateCache();
+        circuitBreakers.resetAll();
+    }
+
+    @Test
+    @DisplayName("parallel lookups for the same code make one upstream call")
+    void shouldCoalesceConcurrentLookups() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(restCountriesClient.getCountryByCode("MX")).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(country("MX", "Mexico", "Mexican"));
+        });
+
+        List<Future<String>> results = runConcurrently(() -> countryService.getDemonym("MX"), release);
+
+        for (Future<String> result : results) {
+            assertEquals("Mexican", result.get());
+        }
+        verify(restCountriesClient, times(1)).getCountryByCode("MX");
+    }
+
+    @Test
+    @DisplayName("parallel lookups for an unknown code share the 404")
+    void shouldShareInvalidCodeResult() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(restCountriesClient.getCountryByCode("RD")).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            throw new NotFoundException();
+        });
+
+        List<Future<String>> results = runConcurrently(() -> countryService.getDemonym("RD"), release);
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(InvalidCountryCodeException.class, e.getCause());
+        }
+        verify(restCountriesClient, times(1)).getCountryByCode("RD");
+    }
+
+    @Test
+    @DisplayName("later lookups are served from the cache")
+    void shouldServeLaterLookupsFromCache() {
+        when(restCountriesClient.getCountryByCode("US")).thenReturn(List.of(country("US", "United States", "American")));
+
+        assertEquals("American", countryService.getDemonym("us"));
+        assertEquals("American", countryService.getDemonym("US"));
+        assertTrue(countryService.isValidCountryCode("US"));
+
+        verify(restCountriesClient, times(1)).getCountryByCode("US");
+    }
+
+    @Test
+    @DisplayName("async lookups for the same code share one non-blocking call")
+    void shouldCoalesceAsyncLookups() throws Exception {
+        CompletableFuture<List<CountryData>> response = new CompletableFuture<>();
+        when(restCountriesClient.getCountryByCodeAsync("BR")).thenReturn(Uni.createFrom().completionStage(response));
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            results.add(countryService.getDemonymAsync("BR").subscribeAsCompletionStage().toCompletableFuture());
+        }
+        response.complete(List.of(country("BR", "Brazil", "Brazilian")));
+
+        for (CompletableFuture<String> result : results) {
+            assertEquals("Brazilian", result.get(5, TimeUnit.SECONDS));
+        }
+        verify(restCountriesClient, times(1)).getCountryByCodeAsync("BR");
+
+        // The async result is cached for the blocking path too
+        assertEquals("Brazilian", countryService.getDemonym("BR"));
+        verify(restCountriesClient, never()).getCountryByCode("BR");
+    }
+
+    @Test
+    @DisplayName("async lookup maps a 404 to an invalid code and caches it")
+    void shouldCacheInvalidCodeFromAsyncLookup() {
+        when(restCountriesClient.getCountryByCodeAsync("QQ")).thenReturn(Uni.createFrom().failure(new NotFoundException()));
+
+        assertThrows(InvalidCountryCodeException.class,
+                () -> countryService.getDemonymAsync("QQ").await().atMost(Duration.ofSeconds(5)));
+        assertThrows(InvalidCountryCodeException.class,
+                () -> countryService.getDemonymAsync("qq").await().atMost(Duration.ofSeconds(5)));
+
+        verify(restCountriesClient, times(1)).getCountryByCodeAsync("QQ");
+    }
+
+    @Test
+    @DisplayName("fails fast once the circuit opens")
+    void shouldFailFastWhenCircuitOpen() {
+        when(restCountriesClient.getCountryByCode("ZZ")).thenThrow(new WebApplicationException(500));
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(CountryServiceException.class, () -> countryService.getDemonym("ZZ"));
+        }
+        long rejectedBefore = countryService.circuitOpenRejections();
+
+        assertThrows(CountryServiceException.class, () -> countryService.getDemonym("ZZ"));
+
+        assertEquals(CircuitBreakerState.OPEN, circuitBreakers.currentState(ResilientCountriesClient.CIRCUIT_BREAKER));
+        assertEquals(rejectedBefore + 1, countryService.circuitOpenRejections());
+        verify(restCountriesClient, times(10)).getCountryByCode("ZZ");
+    }
+
+    @Test
+    @DisplayName("unknown codes don't trip the circuit")
+    void shouldNotCountInvalidCodesAsFailures() {
+        when(restCountriesClient.getCountryByCode(anyString())).thenThrow(new NotFoundException());
+
+        for (String code : List.of("AA", "AB", "AC", "AD", "AE", "AF", "AG", "AH", "AI", "AJ", "AK", "AL")) {
+            assertThrows(InvalidCountryCodeException.class, () -> countryService.getDemonym(code));
+        }
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreakers.currentState(ResilientCountriesClient.CIRCUIT_BREAKER));
+    }
+
+    private List<Future<String>> runConcurrently(Callable<String> call, CountDownLatch release)
+            throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch started = new CountDownLatch(CALLERS);
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> {
+                    started.countDown();
+                    return call.call();
+                }));
+            }
+            started.await(10, TimeUnit.SECONDS);
+            release.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+        return results;
+    }
+
+    private static CountryData country(String code, String name, String demonym) {
+        CountryData data = new CountryData();
+        data.cca2 = code;
+        data.name = new CountryName();
+        data.name.common = name;
+        data.demonyms = new Demonyms();
+        data.demonyms.eng = new DemonymLang();
+        data.demonyms.eng.m = demonym;
+        return data;
+    }
+}
@@ -0,0 +1,226 @@
+package com.clientmanagement.client;
+
+import com.clientmanagement.exception.CountryServiceException;
+import com.clientmanagement.exception.InvalidCountryCodeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DemonymCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final Map<String, String> upstream = new HashMap<>();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final Map<String, CompletableFuture<String>> pendingAsyncLoads = new HashMap<>();
+    private boolean upstreamDown;
+
+    private DemonymCache cache;
+
+    @BeforeEach
+    void setUp() {
+        upstream.put("US", "American");
+        upstream.put("MX", "Mexican");
+        upstream.put("ES", "Spanish");
+        cache = newCache(512);
+    }
+
+    private DemonymCache newCache(int maxSize) {
+        return new DemonymCache(maxSize, Duration.ofMinutes(10), Duration.ofMinutes(1), 0.5,
+                this::load, this::loadAsync, pendingRefreshes::add, now::get);
+    }
+
+    /**
+     * Leaves the call pending until the test completes it with {@link #completeAsyncLoad}.
+     */
+    private CompletionStage<String> loadAsync(String code) {
+        upstreamCalls.incrementAndGet();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        pendingAsyncLoads.put(code, pending);
+        return pending;
+    }
+
+    private void completeAsyncLoad(String code) {
+        String demonym = upstream.get(code);
+        if (demonym == null) {
+            pendingAsyncLoads.get(code).completeExceptionally(new InvalidCountryCodeException(code));
+        } else {
+            pendingAsyncLoads.get(code).complete(demonym);
+        }
+    }
+
+    private String load(String code) {
+        upstreamCalls.incrementAndGet();
+        if (upstreamDown) {
+            throw new CountryServiceException(code, "upstream down");
+        }
+        String demonym = upstream.get(code);
+        if (demonym == null) {
+            throw new InvalidCountryCodeException(code);
+        }
+        return demonym;
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private void runPendingRefreshes() {
+        List<Runnable> tasks = new ArrayList<>(pendingRefreshes);
+        pendingRefreshes.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("serves repeated lookups from memory")
+    void shouldCacheValidCodes() {
+        assertEquals("American", cache.get("US"));
+        assertEquals("American", cache.get("US"));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("caches unknown codes for the negative TTL only")
+    void shouldCacheInvalidCodesBriefly() {
+        assertThrows(InvalidCountryCodeException.class, () -> cache.get("RD"));
+        assertThrows(InvalidCountryCodeException.class, () -> cache.get("RD"));
+        assertEquals(1, upstreamCalls.get());
+
+        advance(Duration.ofMinutes(2));
+        assertThrows(InvalidCountryCodeException.class, () -> cache.get("RD"));
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("refreshes in the background once past refresh-ahead")
+    void shouldRefreshAheadOfExpiry() {
+        cache.get("MX");
+        advance(Duration.ofMinutes(6));
+        upstream.put("MX", "Mexicano");
+
+        assertEquals("Mexican", cache.get("MX"));
+        assertEquals(1, pendingRefreshes.size());
+
+        runPendingRefreshes();
+        assertEquals("Mexicano", cache.get("MX"));
+        assertEquals(1, cache.refreshCount());
+    }
+
+    @Test
+    @DisplayName("keeps the current value when a background refresh fails")
+    void shouldKeepValueWhenRefreshFails() {
+        cache.get("MX");
+        advance(Duration.ofMinutes(6));
+        cache.get("MX");
+        upstreamDown = true;
+
+        runPendingRefreshes();
+
+        assertEquals("Mexican", cache.get("MX"));
+        assertEquals(1, cache.refreshFailureCount());
+    }
+
+    @Test
+    @DisplayName("serves stale value after expiry when upstream is down")
+    void shouldServeStaleWhenUpstreamDown() {
+        cache.get("US");
+        advance(Duration.ofMinutes(11));
+        upstreamDown = true;
+
+        assertEquals("American", cache.get("US"));
+        assertEquals(1, cache.staleHitCount());
+    }
+
+    @Test
+    @DisplayName("propagates upstream errors when nothing is cached")
+    void shouldPropagateErrorWithoutStaleValue() {
+        upstreamDown = true;
+
+        assertThrows(CountryServiceException.class, () -> cache.get("US"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("async misses share one load and cache its result")
+    void shouldCoalesceAsyncMisses() throws Exception {
+        CompletableFuture<String> first = cache.getAsync("MX").toCompletableFuture();
+        CompletableFuture<String> second = cache.getAsync("MX").toCompletableFuture();
+        assertFalse(first.isDone());
+
+        completeAsyncLoad("MX");
+
+        assertEquals("Mexican", first.get(5, TimeUnit.SECONDS));
+        assertEquals("Mexican", second.get(5, TimeUnit.SECONDS));
+        assertEquals("Mexican", cache.get("MX"));
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, cache.coalescedLoadCount());
+    }
+
+    @Test
+    @DisplayName("a blocking miss joins an async load already running for the code")
+    void shouldShareLoadBetweenBlockingAndAsyncMisses() throws Exception {
+        CompletableFuture<String> async = cache.getAsync("MX").toCompletableFuture();
+        CompletableFuture<String> blocking = CompletableFuture.supplyAsync(() -> cache.get("MX"));
+        while (cache.coalescedLoadCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        completeAsyncLoad("MX");
+
+        assertEquals("Mexican", async.get(5, TimeUnit.SECONDS));
+        assertEquals("Mexican", blocking.get(5, TimeUnit.SECONDS));
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("async lookups cache unknown codes and serve stale values like blocking ones")
+    void shouldCacheAsyncFailures() throws Exception {
+        CompletableFuture<String> unknown = cache.getAsync("RD").toCompletableFuture();
+        completeAsyncLoad("RD");
+        Exception e = assertThrows(Exception.class, () -> unknown.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InvalidCountryCodeException.class, e.getCause());
+        assertThrows(InvalidCountryCodeException.class, () -> cache.get("RD"));
+
+        cache.get("US");
+        advance(Duration.ofMinutes(11));
+        CompletableFuture<String> stale = cache.getAsync("US").toCompletableFuture();
+        pendingAsyncLoads.get("US").completeExceptionally(new CountryServiceException("US", "upstream down"));
+
+        assertEquals("American", stale.get(5, TimeUnit.SECONDS));
+        assertEquals(1, cache.staleHitCount());
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("evicts the entry closest to expiry when full")
+    void shouldEvictWhenFull() {
+        cache = newCache(2);
+        cache.get("US");
+        advance(Duration.ofSeconds(1));
+        cache.get("MX");
+        advance(Duration.ofSeconds(1));
+        cache.get("ES");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+
+        cache.get("US");
+        assertEquals(4, upstreamCalls.get());
+    }
+}
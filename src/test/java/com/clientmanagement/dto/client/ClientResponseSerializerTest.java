@@ -0,0 +1,103 @@
+package com.clientmanagement.dto.client;
+
+import com.clientmanagement.dto.common.ApiResponse;
+import com.clientmanagement.dto.common.FieldError;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The hand-written serializers must write exactly what Jackson's reflective bean serializer
+ * writes with the application's ObjectMapper.
+ */
+@QuarkusTest
+class ClientResponseSerializerTest {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private ObjectMapper reflective;
+
+    /**
+     * Turns off the class-level {@code @JsonSerialize(using = ...)} of the DTOs it is mixed into.
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    abstract static class Reflective {
+    }
+
+    @BeforeEach
+    void setUp() {
+        reflective = objectMapper.copy()
+                .addMixIn(ClientResponse.class, Reflective.class)
+                .addMixIn(ApiResponse.class, Reflective.class);
+    }
+
+    @Test
+    @DisplayName("writes a client like the reflective serializer")
+    void shouldMatchReflectiveClient() throws Exception {
+        ClientResponse client = client(LocalDateTime.of(2026, 2, 20, 22, 17, 38, 123_000_000));
+
+        assertSameJson(client);
+    }
+
+    @Test
+    @DisplayName("writes nulls and timestamps of every precision like the reflective serializer")
+    void shouldMatchNullsAndTimestamps() throws Exception {
+        for (LocalDateTime timestamp : List.of(
+                LocalDateTime.of(2026, 3, 1, 10, 0),
+                LocalDateTime.of(2026, 3, 1, 10, 0, 5),
+                LocalDateTime.of(1999, 12, 31, 23, 59, 59, 1),
+                LocalDateTime.of(2026, 1, 2, 3, 4, 5, 120_000),
+                LocalDateTime.of(10_000, 1, 1, 0, 0))) {
+            ClientResponse client = client(timestamp);
+            client.secondName = null;
+            client.updatedAt = null;
+            assertSameJson(client);
+        }
+    }
+
+    @Test
+    @DisplayName("writes envelopes, lists, errors and special characters like the reflective serializer")
+    void shouldMatchEnvelopes() throws Exception {
+        ClientResponse quoted = client(LocalDateTime.of(2026, 2, 20, 22, 17, 38));
+        quoted.address = "1 \"Quoted\" Street\nÁrea ☃";
+
+        assertSameJson(ApiResponse.page(List.of(quoted, client(LocalDateTime.now())), "bmV4dA", "Clients retrieved successfully"));
+        assertSameJson(ApiResponse.validationError("Validation failed",
+                List.of(new FieldError("email", "Email must be a valid email address", "nope"))));
+        assertSameJson(ApiResponse.noContent("Client deleted successfully"));
+    }
+
+    @Test
+    @DisplayName("writes only the selected fields, in the usual order")
+    void shouldWriteSelectedFields() throws Exception {
+        ClientResponse client = client(LocalDateTime.of(2026, 2, 20, 22, 17, 38));
+
+        assertEquals("{\"id\":\"0190a5b2-7c3d-7e4f-8a1b-2c3d4e5f6a7b\",\"email\":\"john.doe@example.com\",\"active\":true}",
+                objectMapper.writeValueAsString(client.only(ClientField.parse("active,email,id"))));
+        assertEquals(reflective.writeValueAsString(client), objectMapper.writeValueAsString(client.only(ClientField.ALL)));
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        String expected = reflective.writeValueAsString(value);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, objectMapper.writeValueAsString(value));
+    }
+
+    private static ClientResponse client(LocalDateTime createdAt) {
+        return new ClientResponse(1L, "0190a5b2-7c3d-7e4f-8a1b-2c3d4e5f6a7b", "John", "Michael", "Doe", "Smith",
+                "John Michael Doe Smith", "john.doe@example.com", "123 Main Street", "+1-555-123-4567", "US",
+                "American", true, createdAt, createdAt.plusNanos(1_000));
+    }
+}
@@ -0,0 +1,66 @@
+package com.clientmanagement.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidsTest {
+
+    @Test
+    @DisplayName("generates RFC 9562 version 7 UUIDs carrying the creation time")
+    void shouldGenerateVersion7() {
+        long now = System.currentTimeMillis();
+        UUID uuid = Uuids.v7(now);
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(now, uuid.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    @DisplayName("sorts by creation time in the stored byte order")
+    void shouldSortByTimeAsBytes() {
+        byte[] earlier = Uuids.toBytes(Uuids.v7(1_700_000_000_000L));
+        byte[] later = Uuids.toBytes(Uuids.v7(1_700_000_000_001L));
+
+        assertTrue(Arrays.compareUnsigned(earlier, later) < 0);
+        assertTrue(Uuids.v7(1_700_000_000_000L).toString().compareTo(Uuids.v7(1_700_000_000_001L).toString()) < 0);
+    }
+
+    @Test
+    @DisplayName("stays unique within the same millisecond")
+    void shouldBeUniqueWithinMillisecond() {
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(seen.add(Uuids.v7(1_700_000_000_000L)));
+        }
+    }
+
+    @Test
+    @DisplayName("round-trips through 16 big-endian bytes")
+    void shouldRoundTripBytes() {
+        UUID uuid = UUID.fromString("7b2a4e8f-3c1d-4a5b-9e6f-8d7c2b1a0e3f");
+        byte[] bytes = Uuids.toBytes(uuid);
+
+        assertEquals(16, bytes.length);
+        assertEquals((byte) 0x7b, bytes[0]);
+        assertEquals((byte) 0x3f, bytes[15]);
+        assertEquals(uuid, Uuids.fromBytes(bytes));
+    }
+
+    @Test
+    @DisplayName("accepts only the 36-character form")
+    void shouldRecognizeCanonicalForm() {
+        assertTrue(Uuids.isCanonical("7b2a4e8f-3c1d-4a5b-9e6f-8d7c2b1a0e3f"));
+        assertTrue(Uuids.isCanonical("7B2A4E8F-3C1D-4A5B-9E6F-8D7C2B1A0E3F"));
+        assertFalse(Uuids.isCanonical("1-1-1-1-1"));
+        assertFalse(Uuids.isCanonical("not-a-uuid"));
+        assertFalse(Uuids.isCanonical(null));
+    }
+}
@@ -0,0 +1,468 @@
+package com.clientmanagement.repository;
+
+import com.clientmanagement.dto.client.ClientCursor;
+import com.clientmanagement.dto.client.ClientField;
+import com.clientmanagement.dto.client.ClientResponse;
+import com.clientmanagement.entity.Client;
+import com.clientmanagement.repository.ClientRepository.UniqueField;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the H2 schema built by db/migration/h2.
+ */
+@QuarkusTest
+class ClientRepositoryTest {
+
+    private static final String TEST_DOMAIN = "@repository.test";
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    EntityManager entityManager;
+
+    @AfterEach
+    void cleanUp() {
+        QuarkusTransaction.requiringNew().run(() ->
+                clientRepository.delete("email like ?1", "%" + TEST_DOMAIN));
+    }
+
+    @Nested
+    @DisplayName("Query plans")
+    class QueryPlans {
+
+        @Test
+        @DisplayName("email lookups seek on idx_clients_active_email")
+        void emailLookupShouldUseIndex() {
+            assertPlanUses("IDX_CLIENTS_ACTIVE_EMAIL",
+                    "SELECT id FROM clients WHERE email = 'john.doe@example.com' AND active = TRUE");
+        }
+
+        @Test
+        @DisplayName("phone lookups seek on idx_clients_active_phone")
+        void phoneLookupShouldUseIndex() {
+            assertPlanUses("IDX_CLIENTS_ACTIVE_PHONE",
+                    "SELECT id FROM clients WHERE phone = '+1-555-123-4567' AND uuid <> X'00' AND active = TRUE");
+        }
+
+        @Test
+        @DisplayName("country lookups seek on idx_clients_active_country_code")
+        void countryLookupShouldUseIndex() {
+            assertPlanUses("IDX_CLIENTS_ACTIVE_COUNTRY_CODE",
+                    "SELECT COUNT(*) FROM clients WHERE country_code = 'US' AND active = TRUE");
+        }
+
+        @Test
+        @DisplayName("uuid lookups seek on the uuid unique constraint")
+        void uuidLookupShouldUseIndex() {
+            String plan = explain("SELECT id FROM clients WHERE uuid = X'7b2a4e8f3c1d4a5b9e6f8d7c2b1a0e3f' AND active = TRUE");
+            assertFalse(plan.contains("tableScan"), plan);
+        }
+
+        private void assertPlanUses(String index, String sql) {
+            String plan = explain(sql);
+            assertTrue(plan.contains(index), plan);
+        }
+
+        private String explain(String sql) {
+            return QuarkusTransaction.requiringNew().call(() ->
+                    (String) entityManager.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+        }
+    }
+
+    @Nested
+    @DisplayName("Unique among active clients")
+    class ActiveUniqueness {
+
+        @Test
+        @DisplayName("rejects a second active client with the same email")
+        void shouldRejectDuplicateActiveEmail() {
+            insert(client("dup" + TEST_DOMAIN, "+1-555-000-0001"));
+
+            PersistenceException e = assertThrows(PersistenceException.class,
+                    () -> insert(client("dup" + TEST_DOMAIN, "+1-555-000-0002")));
+            assertTrue(rootMessage(e).contains("UK_CLIENT_EMAIL"), rootMessage(e));
+        }
+
+        @Test
+        @DisplayName("rejects a second active client with the same phone")
+        void shouldRejectDuplicateActivePhone() {
+            insert(client("first" + TEST_DOMAIN, "+1-555-000-0003"));
+
+            PersistenceException e = assertThrows(PersistenceException.class,
+                    () -> insert(client("second" + TEST_DOMAIN, "+1-555-000-0003")));
+            assertTrue(rootMessage(e).contains("UK_CLIENT_PHONE"), rootMessage(e));
+        }
+
+        @Test
+        @DisplayName("lets a new client reuse the email and phone of a soft-deleted one")
+        void shouldAllowReuseAfterSoftDelete() {
+            Client deleted = insert(client("reused" + TEST_DOMAIN, "+1-555-000-0004"));
+            QuarkusTransaction.requiringNew().run(() ->
+                    clientRepository.update("active = false where id = ?1", deleted.id));
+
+            Client reused = insert(client("reused" + TEST_DOMAIN, "+1-555-000-0004"));
+
+            assertNotEquals(deleted.id, reused.id);
+            assertEquals(EnumSet.of(UniqueField.EMAIL), QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findDuplicateFields("reused" + TEST_DOMAIN, null, null)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Duplicate detection")
+    class DuplicateDetection {
+
+        @Test
+        @DisplayName("reports each colliding field from one query")
+        void shouldReportBothCollisions() {
+            insert(client("taken" + TEST_DOMAIN, "+1-555-000-0010"));
+            insert(client("other" + TEST_DOMAIN, "+1-555-000-0011"));
+
+            assertEquals(EnumSet.of(UniqueField.EMAIL, UniqueField.PHONE),
+                    duplicates("TAKEN" + TEST_DOMAIN, "+1-555-000-0011", null));
+            assertEquals(EnumSet.of(UniqueField.EMAIL), duplicates("taken" + TEST_DOMAIN, "+1-555-000-0099", null));
+            assertEquals(EnumSet.of(UniqueField.PHONE), duplicates("free" + TEST_DOMAIN, "+1-555-000-0010", null));
+            assertEquals(EnumSet.noneOf(UniqueField.class), duplicates("free" + TEST_DOMAIN, "+1-555-000-0099", null));
+        }
+
+        @Test
+        @DisplayName("ignores the client being updated, skipped fields and inactive clients")
+        void shouldIgnoreSelfAndInactive() {
+            Client self = insert(client("self" + TEST_DOMAIN, "+1-555-000-0012"));
+            Client gone = insert(client("gone" + TEST_DOMAIN, "+1-555-000-0013"));
+            QuarkusTransaction.requiringNew().run(() ->
+                    clientRepository.update("active = false where id = ?1", gone.id));
+
+            assertTrue(duplicates("self" + TEST_DOMAIN, "+1-555-000-0012", self.uuid).isEmpty());
+            assertTrue(duplicates(null, "+1-555-000-0012", gone.uuid).contains(UniqueField.PHONE));
+            assertTrue(duplicates(null, "+1-555-000-0099", null).isEmpty());
+            assertTrue(duplicates("gone" + TEST_DOMAIN, "+1-555-000-0013", null).isEmpty());
+            assertTrue(duplicates(null, null, null).isEmpty());
+        }
+
+        private Set<UniqueField> duplicates(String email, String phone, String excludeUuid) {
+            return QuarkusTransaction.requiringNew().call(() ->
+                    clientRepository.findDuplicateFields(email, phone, excludeUuid));
+        }
+    }
+
+    @Nested
+    @DisplayName("Set-wise duplicate detection")
+    class TakenContacts {
+
+        @Test
+        @DisplayName("returns the taken values of each field from one query")
+        void shouldReturnTakenValuesPerField() {
+            insert(client("bulk1" + TEST_DOMAIN, "+1-555-000-0030"));
+            Client gone = insert(client("bulk2" + TEST_DOMAIN, "+1-555-000-0031"));
+            QuarkusTransaction.requiringNew().run(() ->
+                    clientRepository.update("active = false where id = ?1", gone.id));
+
+            Map<UniqueField, Set<String>> taken = QuarkusTransaction.requiringNew().call(() ->
+                    clientRepository.findTakenContacts(
+                            List.of("bulk1" + TEST_DOMAIN, "bulk2" + TEST_DOMAIN, "free" + TEST_DOMAIN),
+                            List.of("+1-555-000-0030", "+1-555-000-0031", "+1-555-000-0099")));
+
+            assertEquals(Set.of("bulk1" + TEST_DOMAIN), taken.get(UniqueField.EMAIL));
+            assertEquals(Set.of("+1-555-000-0030"), taken.get(UniqueField.PHONE));
+        }
+
+        @Test
+        @DisplayName("skips a field with no values and doesn't query for none")
+        void shouldHandleEmptyLists() {
+            insert(client("bulk3" + TEST_DOMAIN, "+1-555-000-0032"));
+
+            Map<UniqueField, Set<String>> phonesOnly = QuarkusTransaction.requiringNew().call(() ->
+                    clientRepository.findTakenContacts(List.of(), List.of("+1-555-000-0032")));
+            Map<UniqueField, Set<String>> none = QuarkusTransaction.requiringNew().call(() ->
+                    clientRepository.findTakenContacts(List.of(), List.of()));
+
+            assertTrue(phonesOnly.get(UniqueField.EMAIL).isEmpty());
+            assertEquals(Set.of("+1-555-000-0032"), phonesOnly.get(UniqueField.PHONE));
+            assertTrue(none.get(UniqueField.EMAIL).isEmpty());
+            assertTrue(none.get(UniqueField.PHONE).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Optimistic locking")
+    class OptimisticLocking {
+
+        @Test
+        @DisplayName("bumps the version on every update")
+        void shouldIncrementVersion() {
+            Client created = insert(client("version" + TEST_DOMAIN, "+1-555-000-0060"));
+            assertEquals(0, created.version);
+
+            long version = QuarkusTransaction.requiringNew().call(() -> {
+                Client client = clientRepository.findActiveByUuid(created.uuid).orElseThrow();
+                client.address = "2 Version Street";
+                clientRepository.flush();
+                return client.version;
+            });
+
+            assertEquals(1, version);
+            assertEquals(1L, QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findActiveByUuid(created.uuid).orElseThrow().version));
+        }
+
+        @Test
+        @DisplayName("rejects a write based on an outdated read")
+        void shouldRejectStaleWrite() {
+            Client created = insert(client("stale" + TEST_DOMAIN, "+1-555-000-0061"));
+
+            assertThrows(OptimisticLockException.class, () -> QuarkusTransaction.requiringNew().run(() -> {
+                Client client = clientRepository.findActiveByUuid(created.uuid).orElseThrow();
+                // Another writer commits after our read
+                entityManager.createNativeQuery("UPDATE clients SET version = version + 1 WHERE id = ?1")
+                        .setParameter(1, created.id)
+                        .executeUpdate();
+                client.address = "2 Stale Street";
+                clientRepository.flush();
+            }));
+        }
+
+        @Test
+        @DisplayName("reads the version of active clients without loading them")
+        void shouldReadVersionOnly() {
+            Client created = insert(client("probeversion" + TEST_DOMAIN, "+1-555-000-0062"));
+            QuarkusTransaction.requiringNew().run(() ->
+                    clientRepository.update("version = 4 where id = ?1", created.id));
+
+            QuarkusTransaction.requiringNew().run(() -> {
+                assertEquals(Optional.of(4L), clientRepository.findActiveVersionByUuid(created.uuid.toUpperCase()));
+                assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+            });
+
+            QuarkusTransaction.requiringNew().run(() ->
+                    clientRepository.update("active = false where id = ?1", created.id));
+            assertEquals(Optional.empty(), QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findActiveVersionByUuid(created.uuid)));
+            assertEquals(Optional.empty(), clientRepository.findActiveVersionByUuid("not-a-uuid"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Stored full name")
+    class StoredFullName {
+
+        @Test
+        @DisplayName("is set on insert and follows name changes")
+        void shouldFollowNameChanges() {
+            Client created = insert(client("fullname" + TEST_DOMAIN, "+1-555-000-0080"));
+            assertEquals("Repo Test", created.fullName);
+
+            QuarkusTransaction.requiringNew().run(() -> {
+                Client client = clientRepository.findActiveByUuid(created.uuid).orElseThrow();
+                client.secondName = "  ";
+                client.secondSurname = "Renamed";
+            });
+
+            assertEquals("Repo Test Renamed", QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findActiveByUuid(created.uuid).orElseThrow().fullName));
+        }
+
+        @Test
+        @DisplayName("is backfilled for rows inserted before the column existed")
+        void shouldBackfillSeedRows() {
+            assertEquals("John Michael Doe Smith", QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findActiveByUuid("7b2a4e8f-3c1d-4a5b-9e6f-8d7c2b1a0e3f").orElseThrow().fullName));
+        }
+    }
+
+    @Nested
+    @DisplayName("List projections")
+    class ListProjections {
+
+        @Test
+        @DisplayName("builds responses from the row without managing any entity")
+        void shouldProjectWithoutManagedEntities() {
+            Client created = client("projection" + TEST_DOMAIN, "+1-555-000-0070");
+            created.countryCode = "ZQ";
+            created.secondName = "Middle";
+            insert(created);
+
+            QuarkusTransaction.requiringNew().run(() -> {
+                List<ClientResponse> rows = clientRepository.findByCountryCode("zq", ClientField.ALL);
+
+                assertEquals(1, rows.size());
+                ClientResponse row = rows.get(0);
+                assertEquals(created.uuid, row.id);
+                assertEquals("Repo Middle Test", row.fullName);
+                assertEquals("American", row.demonym);
+                assertTrue(row.active);
+                assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+            });
+        }
+
+        @Test
+        @DisplayName("pages newest first and continues after the cursor row")
+        void shouldPageByKeyset() {
+            Client first = insert(client("page1" + TEST_DOMAIN, "+1-555-000-0071"));
+            Client second = insert(client("page2" + TEST_DOMAIN, "+1-555-000-0072"));
+
+            List<ClientResponse> top = QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findPageOrderByCreatedAtDesc(null, null, 2, ClientField.ALL));
+            assertEquals(List.of(second.uuid, first.uuid), top.stream().map(row -> row.id).toList());
+
+            ClientCursor after = ClientCursor.of(top.get(0));
+            List<ClientResponse> next = QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findPageOrderByCreatedAtDesc(after.createdAt(), after.id(), 1, ClientField.ALL));
+            assertEquals(first.uuid, next.get(0).id);
+        }
+
+        @Test
+        @DisplayName("selects only the requested fields and still pages by cursor")
+        void shouldProjectSelectedFields() {
+            Client first = client("sparse1" + TEST_DOMAIN, "+1-555-000-0073");
+            first.countryCode = "ZR";
+            insert(first);
+            Client second = client("sparse2" + TEST_DOMAIN, "+1-555-000-0074");
+            second.countryCode = "ZR";
+            insert(second);
+            Set<ClientField> selected = EnumSet.of(ClientField.ID, ClientField.EMAIL);
+
+            List<ClientResponse> byCountry = QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findByCountryCode("ZR", selected));
+            assertEquals(2, byCountry.size());
+            ClientResponse row = byCountry.stream().filter(r -> first.uuid.equals(r.id)).findFirst().orElseThrow();
+            assertEquals(first.email, row.email);
+            assertNull(row.fullName);
+            assertNull(row.countryCode);
+
+            List<ClientResponse> top = QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findPageOrderByCreatedAtDesc(null, null, 1, selected));
+            assertEquals(second.uuid, top.get(0).id);
+            ClientCursor after = ClientCursor.of(top.get(0));
+            List<ClientResponse> next = QuarkusTransaction.requiringNew().call(
+                    () -> clientRepository.findPageOrderByCreatedAtDesc(after.createdAt(), after.id(), 1, selected));
+            assertEquals(first.uuid, next.get(0).id);
+        }
+    }
+
+    @Nested
+    @DisplayName("Public identifier")
+    class PublicIdentifier {
+
+        @Test
+        @DisplayName("finds clients by the string form of their binary uuid, including migrated rows")
+        void shouldFindByUuidString() {
+            Client created = insert(client("uuid" + TEST_DOMAIN, "+1-555-000-0050"));
+
+            assertEquals(7, UUID.fromString(created.uuid).version());
+            assertEquals(created.id, find(created.uuid).map(client -> client.id).orElse(null));
+            assertEquals(created.id, find(created.uuid.toUpperCase()).map(client -> client.id).orElse(null));
+            assertEquals("john.doe@example.com",
+                    find("7b2a4e8f-3c1d-4a5b-9e6f-8d7c2b1a0e3f").map(client -> client.email).orElse(null));
+        }
+
+        @Test
+        @DisplayName("treats malformed identifiers as unknown")
+        void shouldNotFindMalformedUuid() {
+            assertTrue(find("not-a-uuid").isEmpty());
+            assertTrue(find("1-1-1-1-1").isEmpty());
+        }
+
+        @Test
+        @DisplayName("stores 16 bytes in creation order")
+        void shouldStoreSixteenOrderedBytes() {
+            Client first = insert(client("uuid1" + TEST_DOMAIN, "+1-555-000-0051"));
+            Client second = insert(client("uuid2" + TEST_DOMAIN, "+1-555-000-0052"));
+
+            List<byte[]> stored = QuarkusTransaction.requiringNew().call(() -> entityManager.unwrap(Session.class).createNativeQuery(
+                    "SELECT uuid FROM clients WHERE id IN (?1, ?2) ORDER BY id", byte[].class)
+                    .setParameter(1, first.id)
+                    .setParameter(2, second.id)
+                    .getResultList());
+
+            assertEquals(16, stored.get(0).length);
+            assertTrue(Arrays.compareUnsigned(stored.get(0), stored.get(1)) <= 0);
+        }
+
+        private Optional<Client> find(String uuid) {
+            return QuarkusTransaction.requiringNew().call(() -> clientRepository.findActiveByUuid(uuid));
+        }
+    }
+
+    @Nested
+    @DisplayName("Id allocation")
+    class IdAllocation {
+
+        @Test
+        @DisplayName("clients_seq steps by client.id.allocation-size")
+        void sequenceShouldStepByAllocationSize() {
+            Number increment = QuarkusTransaction.requiringNew().call(() -> (Number) entityManager.createNativeQuery(
+                    "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'CLIENTS_SEQ'")
+                    .getSingleResult());
+            assertEquals(50, increment.intValue());
+        }
+
+        @Test
+        @DisplayName("inserts take increasing ids from blocks of 50, not one sequence call each")
+        void shouldAllocateIdsInBlocks() {
+            List<Client> clients = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                clients.add(client("block" + i + TEST_DOMAIN, "+1-555-000-004" + i));
+            }
+            QuarkusTransaction.requiringNew().run(() -> {
+                clients.forEach(clientRepository::persist);
+                clientRepository.flush();
+            });
+
+            List<Long> ids = clients.stream().map(client -> client.id).toList();
+            assertEquals(ids.stream().sorted().toList(), ids);
+            // Blocks start right after a multiple of 50, so ten ids span at most two of them
+            assertTrue(ids.stream().map(id -> Math.floorDiv(id - 1, 50)).distinct().count() <= 2, ids.toString());
+        }
+    }
+
+    private Client insert(Client client) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.persist(client);
+            clientRepository.flush();
+        });
+        return client;
+    }
+
+    private static Client client(String email, String phone) {
+        Client client = new Client();
+        client.firstName = "Repo";
+        client.firstSurname = "Test";
+        client.email = email;
+        client.address = "1 Index Street";
+        client.phone = phone;
+        client.countryCode = "US";
+        client.demonym = "American";
+        return client;
+    }
+
+    private static String rootMessage(Throwable throwable) {
+        Throwable root = throwable;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return String.valueOf(root.getMessage()).toUpperCase();
+    }
+}
@@ -1,23 +1,41 @@
 package com.clientmanagement.resource;
 
 import com.clientmanagement.client.CountryService;
+import com.clientmanagement.dto.client.ClientField;
+import com.clientmanagement.dto.client.ClientResponse;
 import com.clientmanagement.entity.Client;
 import com.clientmanagement.repository.ClientRepository;
+import com.clientmanagement.repository.ClientRepository.UniqueField;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import jakarta.persistence.OptimisticLockException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -39,6 +57,15 @@ class ClientResourceTest {
     private static final String TEST_UUID = "7b2a4e8f-3c1d-4a5b-9e6f-8d7c2b1a0e3f";
     private static final String NON_EXISTENT_UUID = "00000000-0000-0000-0000-000000000000";
 
+    private static final String UPDATE_BODY = """
+        {
+            "email": "john.updated@example.com",
+            "address": "456 New Avenue",
+            "phone": "+1-555-123-4567",
+            "countryCode": "US"
+        }
+        """;
+
     @BeforeEach
     void setUp() {
         testClient = new Client();
@@ -48,6 +75,7 @@ class ClientResourceTest {
         testClient.secondName = "Michael";
         testClient.firstSurname = "Doe";
         testClient.secondSurname = "Smith";
+        testClient.fullName = "John Michael Doe Smith";
         testClient.email = "john.doe@example.com";
         testClient.address = "123 Main Street, City";
         testClient.phone = "+1-555-123-4567";
@@ -65,8 +93,7 @@ class ClientResourceTest {
         @Test
         @DisplayName("201 - valid client")
         void shouldCreateClient() {
-            when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-            when(clientRepository.existsByPhone(anyString())).thenReturn(false);
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.noneOf(UniqueField.class));
             when(countryService.getDemonym("US")).thenReturn("American");
             doAnswer(invocation -> {
                 Client c = invocation.getArgument(0);
@@ -99,7 +126,8 @@ class ClientResourceTest {
                 .body("message", equalTo("Client created successfully"))
                 .body("data.firstName", equalTo("John"))
                 .body("data.email", equalTo("john.doe@example.com"))
-                .body("data.countryCode", equalTo("US"));
+                .body("data.countryCode", equalTo("US"))
+                .body("$", not(hasKey("nextCursor")));
         }
 
         @Test
@@ -169,7 +197,7 @@ class ClientResourceTest {
         @Test
         @DisplayName("409 - duplicate email")
         void shouldReturn409ForDuplicateEmail() {
-            when(clientRepository.existsByEmail(anyString())).thenReturn(true);
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.of(UniqueField.EMAIL));
 
             String requestBody = """
                 {
@@ -195,8 +223,7 @@ class ClientResourceTest {
         @Test
         @DisplayName("409 - duplicate phone")
         void shouldReturn409ForDuplicatePhone() {
-            when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-            when(clientRepository.existsByPhone(anyString())).thenReturn(true);
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.of(UniqueField.PHONE));
 
             String requestBody = """
                 {
@@ -220,6 +247,130 @@ class ClientResourceTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/clients/bulk")
+    class BulkImportEndpoint {
+
+        @BeforeEach
+        void setUpBulk() {
+            Map<UniqueField, Set<String>> none = new EnumMap<>(UniqueField.class);
+            none.put(UniqueField.EMAIL, Set.of());
+            none.put(UniqueField.PHONE, Set.of());
+            when(clientRepository.findTakenContacts(anyCollection(), anyCollection())).thenReturn(none);
+            when(countryService.getDemonym("US")).thenReturn("American");
+        }
+
+        @Test
+        @DisplayName("200 - JSON array, one result per item")
+        void shouldImportJsonArray() {
+            String requestBody = """
+                [
+                    {"firstName": "Ana", "firstSurname": "Lopez", "email": "ana@bulk.test",
+                     "address": "1 Import Street", "phone": "+1-555-000-0001", "countryCode": "US"},
+                    {"firstName": "Ben"}
+                ]
+                """;
+
+            given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+            .when()
+                .post(BASE_PATH + "/bulk")
+            .then()
+                .statusCode(200)
+                .body("data.received", equalTo(2))
+                .body("data.created", equalTo(1))
+                .body("data.items[0].status", equalTo("CREATED"))
+                .body("data.items[1].status", equalTo("INVALID"))
+                .body("data.items[1].errors.field", hasItem("email"));
+        }
+
+        @Test
+        @DisplayName("200 - newline-delimited JSON")
+        void shouldImportNdjson() {
+            String requestBody = """
+                {"firstName": "Ana", "firstSurname": "Lopez", "email": "ana@bulk.test", "address": "1 Import Street", "phone": "+1-555-000-0001", "countryCode": "US"}
+                {"firstName": "Ben", "firstSurname": "Ruiz", "email": "ben@bulk.test", "address": "2 Import Street", "phone": "+1-555-000-0002", "countryCode": "US"}
+                """;
+
+            given()
+                .contentType("application/x-ndjson")
+                .body(requestBody.getBytes(StandardCharsets.UTF_8))
+            .when()
+                .post(BASE_PATH + "/bulk")
+            .then()
+                .statusCode(200)
+                .body("data.received", equalTo(2))
+                .body("data.created", equalTo(2))
+                .body("data.items.index", contains(0, 1));
+
+            verify(countryService, times(1)).getDemonym("US");
+            verify(clientRepository, times(1)).flush();
+        }
+
+        @Test
+        @DisplayName("200 - reading stops at a malformed item")
+        void shouldStopAtMalformedItem() {
+            String requestBody = """
+                {"firstName": "Ana", "firstSurname": "Lopez", "email": "ana@bulk.test", "address": "1 Import Street", "phone": "+1-555-000-0001", "countryCode": "US"}
+                {"firstName": "Ben",
+                """;
+
+            given()
+                .contentType("application/x-ndjson")
+                .body(requestBody.getBytes(StandardCharsets.UTF_8))
+            .when()
+                .post(BASE_PATH + "/bulk")
+            .then()
+                .statusCode(200)
+                .body("data.created", equalTo(1))
+                .body("data.items[1].status", equalTo("INVALID"))
+                .body("data.items[1].message", containsString("Malformed item"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Request body limits")
+    class RequestBodyLimitsTests {
+
+        // Over client.http.max-body-size (10240K), under client.bulk.max-body-size (64M)
+        private static final int OVERSIZED = 11 * 1024 * 1024;
+
+        @Test
+        @DisplayName("413 - other endpoints keep the default limit")
+        void shouldRejectLargeBodyOutsideBulk() throws Exception {
+            // The 413 comes before the body is read, so ask first instead of uploading into a closed connection
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + RestAssured.port + BASE_PATH))
+                    .expectContinue(true)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(new byte[OVERSIZED]))
+                    .build();
+
+            HttpResponse<Void> response = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()
+                    .send(request, HttpResponse.BodyHandlers.discarding());
+
+            assertEquals(413, response.statusCode());
+        }
+
+        @Test
+        @DisplayName("200 - bulk imports take larger bodies")
+        void shouldAcceptLargeBulkBody() {
+            byte[] body = new byte[OVERSIZED];
+            Arrays.fill(body, (byte) ' ');
+            body[OVERSIZED - 2] = '[';
+            body[OVERSIZED - 1] = ']';
+
+            given()
+                .contentType(ContentType.JSON)
+                .body(body)
+            .when()
+                .post(BASE_PATH + "/bulk")
+            .then()
+                .statusCode(200)
+                .body("data.received", equalTo(0));
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/clients")
     class GetAllClientsEndpoint {
@@ -227,7 +378,7 @@ class ClientResourceTest {
         @Test
         @DisplayName("200 - returns client list")
         void shouldReturnAllClients() {
-            when(clientRepository.findAllOrderByCreatedAtDesc()).thenReturn(List.of(testClient));
+            when(clientRepository.findPageOrderByCreatedAtDesc(isNull(), isNull(), anyInt(), eq(ClientField.ALL))).thenReturn(List.of(ClientResponse.fromEntity(testClient)));
 
             given()
                 .contentType(ContentType.JSON)
@@ -238,13 +389,84 @@ class ClientResourceTest {
                 .body("success", equalTo(true))
                 .body("data", hasSize(1))
                 .body("data[0].firstName", equalTo("John"))
+                .body("data[0].email", equalTo("john.doe@example.com"))
+                .body("$", not(hasKey("nextCursor")));
+        }
+
+        @Test
+        @DisplayName("200 - returns nextCursor when more pages follow")
+        void shouldReturnNextCursor() {
+            Client older = new Client();
+            older.id = 2L;
+            older.uuid = "a1f5d9c3-6e2b-4d8a-b7c4-5f3e1a9d6b2c";
+            older.firstName = "Jane";
+            older.firstSurname = "Doe";
+            older.createdAt = testClient.createdAt.minusDays(1);
+            when(clientRepository.findPageOrderByCreatedAtDesc(isNull(), isNull(), eq(2), eq(ClientField.ALL))).thenReturn(List.of(ClientResponse.fromEntity(testClient), ClientResponse.fromEntity(older)));
+
+            given()
+                .contentType(ContentType.JSON)
+                .queryParam("limit", 1)
+            .when()
+                .get(BASE_PATH)
+            .then()
+                .statusCode(200)
+                .body("data", hasSize(1))
+                .body("data[0].firstName", equalTo("John"))
+                .body("nextCursor", notNullValue());
+        }
+
+        @Test
+        @DisplayName("400 - invalid cursor")
+        void shouldRejectInvalidCursor() {
+            given()
+                .contentType(ContentType.JSON)
+                .queryParam("cursor", "garbage")
+            .when()
+                .get(BASE_PATH)
+            .then()
+                .statusCode(400)
+                .body("success", equalTo(false));
+        }
+
+        @Test
+        @DisplayName("200 - fields narrows the query and the output")
+        void shouldReturnOnlySelectedFields() {
+            Set<ClientField> selected = EnumSet.of(ClientField.ID, ClientField.EMAIL, ClientField.COUNTRY_CODE);
+            when(clientRepository.findPageOrderByCreatedAtDesc(isNull(), isNull(), anyInt(), eq(selected)))
+                    .thenReturn(List.of(ClientResponse.fromEntity(testClient).only(selected)));
+
+            given()
+                .contentType(ContentType.JSON)
+                .queryParam("fields", "email, id,countryCode")
+            .when()
+                .get(BASE_PATH)
+            .then()
+                .statusCode(200)
+                .body("data[0].keySet()", contains("id", "email", "countryCode"))
                 .body("data[0].email", equalTo("john.doe@example.com"));
         }
 
+        @Test
+        @DisplayName("400 - unknown field")
+        void shouldRejectUnknownField() {
+            given()
+                .contentType(ContentType.JSON)
+                .queryParam("fields", "id,password")
+            .when()
+                .get(BASE_PATH)
+            .then()
+                .statusCode(400)
+                .body("success", equalTo(false))
+                .body("message", containsString("Unknown fields: password"));
+
+            verify(clientRepository, never()).findPageOrderByCreatedAtDesc(any(), any(), anyInt(), any());
+        }
+
         @Test
         @DisplayName("200 - empty list")
         void shouldReturnEmptyList() {
-            when(clientRepository.findAllOrderByCreatedAtDesc()).thenReturn(Collections.emptyList());
+            when(clientRepository.findPageOrderByCreatedAtDesc(isNull(), isNull(), anyInt(), eq(ClientField.ALL))).thenReturn(Collections.emptyList());
 
             given()
                 .contentType(ContentType.JSON)
@@ -257,6 +479,79 @@ class ClientResourceTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/clients/export")
+    class ExportClientsEndpoint {
+
+        @Test
+        @DisplayName("200 - streams one JSON object per line")
+        void shouldStreamClientsAsNdjson() {
+            Client other = new Client();
+            other.id = 2L;
+            other.uuid = "a1f5d9c3-6e2b-4d8a-b7c4-5f3e1a9d6b2c";
+            other.firstName = "Jane";
+            other.firstSurname = "Doe";
+            other.email = "jane@example.com";
+            other.active = true;
+            when(clientRepository.streamAllActive(anyInt())).thenReturn(Stream.of(testClient, other));
+
+            String body = given()
+            .when()
+                .get(BASE_PATH + "/export")
+            .then()
+                .statusCode(200)
+                .contentType(containsString("application/x-ndjson"))
+                .extract().asString();
+
+            String[] lines = body.split("\n");
+            assertEquals(2, lines.length);
+            assertEquals(TEST_UUID, JsonPath.from(lines[0]).getString("id"));
+            assertEquals("Jane", JsonPath.from(lines[1]).getString("firstName"));
+        }
+
+        @Test
+        @DisplayName("200 - fields narrows every line")
+        void shouldStreamOnlySelectedFields() {
+            when(clientRepository.streamAllActive(anyInt())).thenReturn(Stream.of(testClient));
+
+            String body = given()
+                .queryParam("fields", "id,countryCode")
+            .when()
+                .get(BASE_PATH + "/export")
+            .then()
+                .statusCode(200)
+                .extract().asString();
+
+            assertEquals("{\"id\":\"" + TEST_UUID + "\",\"countryCode\":\"US\"}", body.trim());
+        }
+
+        @Test
+        @DisplayName("400 - unknown field")
+        void shouldRejectUnknownField() {
+            given()
+                .queryParam("fields", "nope")
+            .when()
+                .get(BASE_PATH + "/export")
+            .then()
+                .statusCode(400);
+
+            verify(clientRepository, never()).streamAllActive(anyInt());
+        }
+
+        @Test
+        @DisplayName("200 - empty body when there are no clients")
+        void shouldStreamNothingWhenEmpty() {
+            when(clientRepository.streamAllActive(anyInt())).thenReturn(Stream.empty());
+
+            given()
+            .when()
+                .get(BASE_PATH + "/export")
+            .then()
+                .statusCode(200)
+                .body(emptyString());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/clients/{uuid}")
     class GetClientByUuidEndpoint {
@@ -278,6 +573,23 @@ class ClientResourceTest {
                 .body("data.fullName", containsString("John"));
         }
 
+        @Test
+        @DisplayName("200 - fields returns only the selected fields")
+        void shouldReturnOnlySelectedFields() {
+            when(clientRepository.findActiveByUuid(TEST_UUID)).thenReturn(Optional.of(testClient));
+
+            given()
+                .contentType(ContentType.JSON)
+                .queryParam("fields", "id,fullName")
+            .when()
+                .get(BASE_PATH + "/" + TEST_UUID)
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .body("data.keySet()", contains("id", "fullName"))
+                .body("data.id", equalTo(TEST_UUID));
+        }
+
         @Test
         @DisplayName("404 - not found")
         void shouldReturn404ForNonExistentClient() {
@@ -291,6 +603,82 @@ class ClientResourceTest {
                 .statusCode(404)
                 .body("success", equalTo(false));
         }
+
+        @Test
+        @DisplayName("304 - If-None-Match with the current ETag")
+        void shouldReturn304WhenUnchanged() {
+            when(clientRepository.findActiveByUuid(TEST_UUID)).thenReturn(Optional.of(testClient));
+            when(clientRepository.findActiveVersionByUuid(TEST_UUID)).thenReturn(Optional.of(testClient.version));
+
+            String etag = given()
+            .when()
+                .get(BASE_PATH + "/" + TEST_UUID)
+            .then()
+                .statusCode(200)
+                .header("ETag", matchesPattern("\"[0-9a-z]+\""))
+                .extract().header("ETag");
+
+            given()
+                .header("If-None-Match", etag)
+            .when()
+                .get(BASE_PATH + "/" + TEST_UUID)
+            .then()
+                .statusCode(304)
+                .header("ETag", equalTo(etag))
+                .body(emptyString());
+
+            // Only the first, unconditional read loaded the client
+            verify(clientRepository, times(1)).findActiveByUuid(TEST_UUID);
+        }
+
+        @Test
+        @DisplayName("404 - If-None-Match for a deleted client")
+        void shouldReturn404WhenConditionalClientIsGone() {
+            when(clientRepository.findActiveVersionByUuid(TEST_UUID)).thenReturn(Optional.empty());
+
+            given()
+                .header("If-None-Match", "\"0\"")
+            .when()
+                .get(BASE_PATH + "/" + TEST_UUID)
+            .then()
+                .statusCode(404);
+
+            verify(clientRepository, never()).findActiveByUuid(TEST_UUID);
+        }
+
+        @Test
+        @DisplayName("200 - If-None-Match with an outdated ETag gets the new version")
+        void shouldReturnNewVersionAfterChange() {
+            when(clientRepository.findActiveByUuid(TEST_UUID)).thenReturn(Optional.of(testClient));
+            String etag = given().get(BASE_PATH + "/" + TEST_UUID).then().extract().header("ETag");
+
+            testClient.email = "changed@example.com";
+            testClient.version++;
+            when(clientRepository.findActiveVersionByUuid(TEST_UUID)).thenReturn(Optional.of(testClient.version));
+
+            given()
+                .header("If-None-Match", etag)
+            .when()
+                .get(BASE_PATH + "/" + TEST_UUID)
+            .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(etag)))
+                .body("success", equalTo(true))
+                .body("message", equalTo("Client retrieved successfully"))
+                .body("data.email", equalTo("changed@example.com"));
+        }
+
+        @Test
+        @DisplayName("200 - repeated reads of an unchanged client return the same body")
+        void shouldServeSameRepresentation() {
+            when(clientRepository.findActiveByUuid(TEST_UUID)).thenReturn(Optional.of(testClient));
+
+            JsonPath first = given().get(BASE_PATH + "/" + TEST_UUID).then().statusCode(200).extract().jsonPath();
+            JsonPath second = given().get(BASE_PATH + "/" + TEST_UUID).then().statusCode(200).extract().jsonPath();
+
+            assertEquals(first.getMap("data"), second.getMap("data"));
+            assertEquals("Doe", second.getString("data.firstSurname"));
+        }
     }
 
     @Nested
@@ -300,7 +688,7 @@ class ClientResourceTest {
         @Test
         @DisplayName("200 - filters by country")
         void shouldReturnClientsByCountry() {
-            when(clientRepository.findByCountryCode("US")).thenReturn(List.of(testClient));
+            when(clientRepository.findByCountryCode("US", ClientField.ALL)).thenReturn(List.of(ClientResponse.fromEntity(testClient)));
 
             given()
                 .contentType(ContentType.JSON)
@@ -316,7 +704,7 @@ class ClientResourceTest {
         @Test
         @DisplayName("200 - handles lowercase input")
         void shouldHandleLowercaseCountryCode() {
-            when(clientRepository.findByCountryCode("US")).thenReturn(List.of(testClient));
+            when(clientRepository.findByCountryCode("US", ClientField.ALL)).thenReturn(List.of(ClientResponse.fromEntity(testClient)));
 
             given()
                 .contentType(ContentType.JSON)
@@ -346,8 +734,7 @@ class ClientResourceTest {
         @DisplayName("200 - updates successfully")
         void shouldUpdateClient() {
             when(clientRepository.findActiveByUuid(TEST_UUID)).thenReturn(Optional.of(testClient));
-            when(clientRepository.existsByEmailAndUuidNot(anyString(), eq(TEST_UUID))).thenReturn(false);
-            when(clientRepository.existsByPhoneAndUuidNot(anyString(), eq(TEST_UUID))).thenReturn(false);
+            when(clientRepository.findDuplicateFields(any(), any(), eq(TEST_UUID))).thenReturn(EnumSet.noneOf(UniqueField.class));
             when(countryService.getDemonym("MX")).thenReturn("Mexican");
 
             String requestBody = """
@@ -371,6 +758,64 @@ class ClientResourceTest {
                 .body("data.address", equalTo("456 New Avenue"));
         }
 
+        @Test
+        @DisplayName("200 - If-Match with the current ETag")
+        void shouldUpdateWhenVersionMatches() {
+            testClient.version = 3;
+            when(clientRepository.findActiveByUuid(TEST_UUID)).thenReturn(Optional.of(testClient));
+            when(clientRepository.findDuplicateFields(any(), any(), eq(TEST_UUID))).thenReturn(EnumSet.noneOf(UniqueField.class));
+
+            given()
+                .contentType(ContentType.JSON)
+                .header("If-Match", "\"3\"")
+                .body(UPDATE_BODY)
+            .when()
+                .patch(BASE_PATH + "/" + TEST_UUID)
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .body("data.email", equalTo("john.updated@example.com"));
+        }
+
+        @Test
+        @DisplayName("412 - If-Match with an outdated or weak ETag")
+        void shouldReturn412WhenVersionChanged() {
+            testClient.version = 4;
+            when(clientRepository.findActiveByUuid(TEST_UUID)).thenReturn(Optional.of(testClient));
+
+            for (String ifMatch : List.of("\"3\"", "W/\"4\"")) {
+                given()
+                    .contentType(ContentType.JSON)
+                    .header("If-Match", ifMatch)
+                    .body(UPDATE_BODY)
+                .when()
+                    .patch(BASE_PATH + "/" + TEST_UUID)
+                .then()
+                    .statusCode(412)
+                    .body("success", equalTo(false));
+            }
+
+            verify(clientRepository, never()).flush();
+            assertEquals("john.doe@example.com", testClient.email);
+        }
+
+        @Test
+        @DisplayName("409 - a concurrent update won the race")
+        void shouldReturn409WhenConcurrentUpdateWins() {
+            when(clientRepository.findActiveByUuid(TEST_UUID)).thenReturn(Optional.of(testClient));
+            when(clientRepository.findDuplicateFields(any(), any(), eq(TEST_UUID))).thenReturn(EnumSet.noneOf(UniqueField.class));
+            doThrow(new OptimisticLockException("stale")).when(clientRepository).flush();
+
+            given()
+                .contentType(ContentType.JSON)
+                .body(UPDATE_BODY)
+            .when()
+                .patch(BASE_PATH + "/" + TEST_UUID)
+            .then()
+                .statusCode(409)
+                .body("message", containsString("retry"));
+        }
+
         @Test
         @DisplayName("404 - client not found")
         void shouldReturn404ForNonExistentClient() {
@@ -467,5 +912,29 @@ class ClientResourceTest {
                 .body("success", equalTo(true))
                 .body("data", equalTo(5));
         }
+
+        @Test
+        @DisplayName("200 - returns count for a country")
+        void shouldReturnClientCountByCountry() {
+            when(clientRepository.countActiveByCountryCode("MX")).thenReturn(3L);
+
+            given()
+            .when()
+                .get(BASE_PATH + "/country/mx/count")
+            .then()
+                .statusCode(200)
+                .body("data", equalTo(3));
+        }
+
+        @Test
+        @DisplayName("400 - invalid country code format")
+        void shouldReturn400ForInvalidCountryCode() {
+            given()
+            .when()
+                .get(BASE_PATH + "/country/USA/count")
+            .then()
+                .statusCode(400)
+                .body("success", equalTo(false));
+        }
     }
 }
@@ -0,0 +1,64 @@
+package com.clientmanagement.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    private static final int VALUES = 100_000;
+
+    @Test
+    @DisplayName("never reports an added value as absent")
+    void shouldHaveNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(VALUES, 0.01, Long.MAX_VALUE);
+        for (int i = 0; i < VALUES; i++) {
+            filter.put("client" + i + "@example.com");
+        }
+
+        for (int i = 0; i < VALUES; i++) {
+            assertTrue(filter.mightContain("client" + i + "@example.com"));
+        }
+        assertEquals(VALUES, filter.insertions());
+    }
+
+    @Test
+    @DisplayName("keeps false positives close to the configured rate")
+    void shouldMeetFalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(VALUES, 0.01, Long.MAX_VALUE);
+        for (int i = 0; i < VALUES; i++) {
+            filter.put(String.format("+1-555-%07d", i));
+        }
+
+        int falsePositives = 0;
+        for (int i = VALUES; i < 2 * VALUES; i++) {
+            if (filter.mightContain(String.format("+1-555-%07d", i))) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / VALUES;
+        assertTrue(rate < 0.015, "false-positive rate was " + rate);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.002);
+    }
+
+    @Test
+    @DisplayName("sizes itself for the target rate unless capped")
+    void shouldRespectMemoryCap() {
+        BloomFilter uncapped = BloomFilter.create(1_000_000, 0.01, Long.MAX_VALUE);
+        BloomFilter capped = BloomFilter.create(1_000_000, 0.01, 64 * 1024);
+
+        // ~9.6 bits per value and 7 hashes at 1%
+        assertEquals(1_198_160, uncapped.sizeInBytes(), 64);
+        assertEquals(7, uncapped.hashCount());
+        assertEquals(64 * 1024, capped.sizeInBytes());
+    }
+
+    @Test
+    @DisplayName("rejects impossible parameters")
+    void shouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01, 1024));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 0, 1024));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 1, 1024));
+    }
+}
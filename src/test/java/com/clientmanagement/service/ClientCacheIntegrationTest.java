@@ -0,0 +1,177 @@
+package com.clientmanagement.service;
+
+import com.clientmanagement.client.CountryService;
+import com.clientmanagement.dto.client.CreateClientRequest;
+import com.clientmanagement.dto.client.UpdateClientRequest;
+import com.clientmanagement.entity.Client;
+import com.clientmanagement.exception.ClientNotFoundException;
+import com.clientmanagement.repository.ClientRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.mockito.InjectSpy;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs single-client reads against the real database with the client cache enabled.
+ */
+@QuarkusTest
+@TestProfile(ClientCacheIntegrationTest.CacheEnabledProfile.class)
+class ClientCacheIntegrationTest {
+
+    private static final String TEST_DOMAIN = "@cache.test";
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @InjectSpy
+    ClientRepository clientRepository;
+
+    @InjectMock
+    CountryService countryService;
+
+    private String uuid;
+
+    public static class CacheEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("client.cache.enabled", "true");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(countryService.getDemonym(anyString())).thenReturn("American");
+        uuid = clientService.createClient(request("cached" + TEST_DOMAIN, "+1-555-200-0001")).uuid;
+        clearInvocations(clientRepository);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        QuarkusTransaction.requiringNew().run(() ->
+                clientRepository.delete("email like ?1", "%" + TEST_DOMAIN));
+    }
+
+    @Test
+    @DisplayName("serves repeated reads of a client from memory")
+    void shouldReadThroughOnce() {
+        Client first = read(uuid);
+        Client second = read(uuid);
+
+        assertEquals(first.email, second.email);
+        verify(clientRepository, times(1)).findActiveByUuid(uuid);
+        assertTrue(counter("cache.gets", "hit") >= 1);
+        assertTrue(counter("cache.gets", "miss") >= 1);
+    }
+
+    @Test
+    @DisplayName("returns the new values after an update")
+    void shouldEvictOnUpdate() {
+        read(uuid.toUpperCase());
+
+        clientService.updateClient(uuid, update("changed" + TEST_DOMAIN, "+1-555-200-0002"));
+
+        assertEquals("changed" + TEST_DOMAIN, read(uuid).email);
+        assertEquals("changed" + TEST_DOMAIN, read(uuid.toUpperCase()).email);
+    }
+
+    @Test
+    @DisplayName("never serves a deleted client")
+    void shouldEvictOnDelete() {
+        read(uuid);
+
+        clientService.deleteClient(uuid);
+
+        assertThrows(ClientNotFoundException.class, () -> read(uuid));
+        assertThrows(ClientNotFoundException.class, () -> read(uuid.toUpperCase()));
+    }
+
+    @Test
+    @DisplayName("serves hits without a query, so a write through another instance waits for the ttl")
+    void shouldServeHitsWithoutQuerying() {
+        String address = read(uuid).address;
+
+        // Bulk updates bypass ClientService, like a write made by another instance
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.update(
+                "address = ?1, version = version + 1 where email = ?2", "9 Elsewhere Road", "cached" + TEST_DOMAIN));
+
+        assertEquals(address, read(uuid).address);
+        verify(clientRepository, times(1)).findActiveByUuid(uuid);
+        verify(clientRepository, never()).findActiveVersionByUuid(anyString());
+    }
+
+    @Test
+    @DisplayName("takes the version of a cached client from memory and reads it once otherwise")
+    void shouldReadVersionOnce() {
+        // Not cached yet: a conditional read that misses reads the version, then the client, once each
+        long version = clientService.getClientVersion(uuid);
+        assertEquals(version, read(uuid).version);
+        verify(clientRepository, times(1)).findActiveVersionByUuid(uuid);
+        verify(clientRepository, times(1)).findActiveByUuid(uuid);
+
+        assertEquals(version, clientService.getClientVersion(uuid.toUpperCase()));
+        verify(clientRepository, times(1)).findActiveVersionByUuid(anyString());
+    }
+
+    @Test
+    @DisplayName("doesn't cache lookups of unknown clients")
+    void shouldNotCacheMisses() {
+        String unknown = "0190c2a4-0000-7000-8000-000000000000";
+
+        assertThrows(ClientNotFoundException.class, () -> read(unknown));
+        assertThrows(ClientNotFoundException.class, () -> read(unknown));
+
+        verify(clientRepository, times(2)).findActiveByUuid(unknown);
+    }
+
+    /**
+     * Reads in a transaction of its own, as a separate request would; otherwise the test's
+     * persistence context would hand back the instance it already holds.
+     */
+    private Client read(String uuid) {
+        return QuarkusTransaction.requiringNew().call(() -> clientService.getClientByUuid(uuid));
+    }
+
+    private double counter(String name, String result) {
+        FunctionCounter counter = meterRegistry.find(name).tag("cache", "clients").tag("result", result).functionCounter();
+        assertNotNull(counter, name + " " + result);
+        return counter.count();
+    }
+
+    private static CreateClientRequest request(String email, String phone) {
+        CreateClientRequest request = new CreateClientRequest();
+        request.firstName = "Cache";
+        request.firstSurname = "Test";
+        request.email = email;
+        request.address = "1 Cache Street";
+        request.phone = phone;
+        request.countryCode = "US";
+        return request;
+    }
+
+    private static UpdateClientRequest update(String email, String phone) {
+        UpdateClientRequest request = new UpdateClientRequest();
+        request.email = email;
+        request.address = "2 Cache Street";
+        request.phone = phone;
+        request.countryCode = "US";
+        return request;
+    }
+}
@@ -0,0 +1,154 @@
+package com.clientmanagement.service;
+
+import com.clientmanagement.entity.Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Map<String, Client> table = new HashMap<>();
+
+    private ClientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            table.put("uuid-" + i, client("uuid-" + i, true));
+        }
+        cache = new ClientCache(10, Duration.ofMinutes(1), now::get);
+    }
+
+    private static Client client(String uuid, boolean active) {
+        Client client = new Client();
+        client.uuid = uuid;
+        client.active = active;
+        return client;
+    }
+
+    private Optional<Client> load(String uuid) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(table.get(uuid));
+    }
+
+    private Optional<Client> get(String uuid) {
+        now.incrementAndGet();
+        return cache.get(uuid, this::load);
+    }
+
+    @Test
+    @DisplayName("serves repeated lookups from memory")
+    void shouldCacheActiveClients() {
+        assertSame(table.get("uuid-1"), get("uuid-1").orElseThrow());
+        assertSame(table.get("uuid-1"), get("uuid-1").orElseThrow());
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("doesn't cache unknown or inactive clients")
+    void shouldNotCacheMissesOrInactiveClients() {
+        table.put("deleted", client("deleted", false));
+
+        get("missing");
+        get("missing");
+        get("deleted");
+        get("deleted");
+
+        assertEquals(4, loads.get());
+        assertEquals(0, cache.size());
+
+        table.put("missing", client("missing", true));
+        assertTrue(get("missing").isPresent());
+    }
+
+    @Test
+    @DisplayName("peeks at cached clients without loading or counting")
+    void shouldPeekWithoutLoading() {
+        assertTrue(cache.peek("uuid-1").isEmpty());
+        get("uuid-1");
+
+        assertSame(table.get("uuid-1"), cache.peek("uuid-1").orElseThrow());
+        assertEquals(1, loads.get());
+        assertEquals(0, cache.hitCount());
+        assertEquals(1, cache.missCount());
+
+        now.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertTrue(cache.peek("uuid-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("reloads a client after it is invalidated")
+    void shouldReloadAfterInvalidation() {
+        get("uuid-1");
+        Client updated = client("uuid-1", true);
+        table.put("uuid-1", updated);
+
+        cache.invalidate("uuid-1");
+
+        assertSame(updated, get("uuid-1").orElseThrow());
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.invalidationCount());
+    }
+
+    @Test
+    @DisplayName("doesn't store a load that raced an invalidation")
+    void shouldDropLoadsThatRacedAWrite() {
+        Optional<Client> loaded = cache.get("uuid-1", uuid -> {
+            Optional<Client> old = load(uuid);
+            // An update commits and evicts while this read still holds the old row
+            cache.invalidate(uuid);
+            return old;
+        });
+
+        assertTrue(loaded.isPresent());
+        assertEquals(0, cache.size());
+        get("uuid-1");
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("expires entries after the ttl")
+    void shouldExpireEntries() {
+        get("uuid-1");
+        now.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        get("uuid-1");
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("evicts the least recently read clients when full")
+    void shouldEvictLeastRecentlyRead() {
+        for (int i = 0; i < 10; i++) {
+            get("uuid-" + i);
+        }
+        // uuid-0 is hot, uuid-1 isn't
+        get("uuid-0");
+
+        get("uuid-10");
+
+        assertTrue(cache.size() <= 10);
+        assertTrue(cache.evictionCount() > 0);
+        int before = loads.get();
+        get("uuid-0");
+        assertEquals(before, loads.get(), "a recently read client should survive eviction");
+        get("uuid-1");
+        assertEquals(before + 1, loads.get(), "the least recently read client should be evicted");
+    }
+}
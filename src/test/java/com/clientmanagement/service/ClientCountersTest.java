@@ -0,0 +1,225 @@
+package com.clientmanagement.service;
+
+import com.clientmanagement.client.CountryService;
+import com.clientmanagement.dto.client.CreateClientRequest;
+import com.clientmanagement.dto.client.UpdateClientRequest;
+import com.clientmanagement.entity.Client;
+import com.clientmanagement.exception.DuplicateEmailException;
+import com.clientmanagement.repository.ClientRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.mockito.InjectSpy;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the write paths against the real database with the maintained counters enabled.
+ */
+@QuarkusTest
+@TestProfile(ClientCountersTest.CountersEnabledProfile.class)
+class ClientCountersTest {
+
+    private static final String TEST_DOMAIN = "@counters.test";
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    ClientCounters clientCounters;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @InjectSpy
+    ClientRepository clientRepository;
+
+    @InjectMock
+    CountryService countryService;
+
+    public static class CountersEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "client.counters.enabled", "true",
+                    // Only reconciled on demand
+                    "client.counters.reconcile-interval", "1h");
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        when(countryService.getDemonym(anyString())).thenReturn("Demonym");
+        await(clientCounters::isReady);
+        clearInvocations(clientRepository);
+    }
+
+    @AfterEach
+    void cleanUp() throws InterruptedException {
+        QuarkusTransaction.requiringNew().run(() ->
+                clientRepository.delete("email like ?1", "%" + TEST_DOMAIN));
+        reconcile();
+    }
+
+    @Test
+    @DisplayName("answers counts without querying the table")
+    void shouldCountWithoutQueries() {
+        long total = clientService.countClients();
+        long us = clientService.countClientsByCountry("us");
+
+        assertEquals(QuarkusTransaction.requiringNew().call(clientRepository::countActive), total);
+        assertEquals(QuarkusTransaction.requiringNew().call(() -> clientRepository.countActiveByCountryCode("US")), us);
+        verify(clientRepository, times(1)).countActive();
+        verify(clientRepository, times(1)).countActiveByCountryCode("US");
+    }
+
+    @Test
+    @DisplayName("follows creates, country changes and deletes")
+    void shouldFollowWrites() {
+        long total = clientService.countClients();
+        long mx = clientService.countClientsByCountry("MX");
+        long es = clientService.countClientsByCountry("ES");
+
+        Client created = clientService.createClient(request("follow" + TEST_DOMAIN, "+1-555-300-0001", "MX"));
+        assertEquals(total + 1, clientService.countClients());
+        assertEquals(mx + 1, clientService.countClientsByCountry("MX"));
+
+        clientService.updateClient(created.uuid, update("follow" + TEST_DOMAIN, "+1-555-300-0001", "ES"));
+        assertEquals(total + 1, clientService.countClients());
+        assertEquals(mx, clientService.countClientsByCountry("MX"));
+        assertEquals(es + 1, clientService.countClientsByCountry("ES"));
+
+        clientService.deleteClient(created.uuid);
+        assertEquals(total, clientService.countClients());
+        assertEquals(es, clientService.countClientsByCountry("ES"));
+    }
+
+    @Test
+    @DisplayName("counts bulk imports and ignores writes that roll back")
+    void shouldCountOnlyCommittedWrites() {
+        long total = clientService.countClients();
+
+        clientService.importClients(List.of(
+                request("bulk1" + TEST_DOMAIN, "+1-555-300-0011", "MX"),
+                request("bulk2" + TEST_DOMAIN, "+1-555-300-0012", "CO")).iterator());
+        assertEquals(total + 2, clientService.countClients());
+
+        assertThrows(DuplicateEmailException.class,
+                () -> clientService.createClient(request("bulk1" + TEST_DOMAIN, "+1-555-300-0013", "MX")));
+        assertEquals(total + 2, clientService.countClients());
+    }
+
+    @Test
+    @DisplayName("corrects drift from writes it didn't see")
+    void shouldReconcileDrift() throws InterruptedException {
+        long total = clientService.countClients();
+        double corrected = reconciliations("corrected");
+
+        // Written without going through ClientService, as another instance would
+        QuarkusTransaction.requiringNew().run(() -> {
+            Client client = new Client();
+            client.firstName = "Other";
+            client.firstSurname = "Instance";
+            client.email = "elsewhere" + TEST_DOMAIN;
+            client.address = "1 Counter Street";
+            client.phone = "+1-555-300-0021";
+            client.countryCode = "US";
+            entityManager.persist(client);
+        });
+        assertEquals(total, clientService.countClients());
+
+        reconcile();
+
+        assertEquals(total + 1, clientService.countClients());
+        assertEquals(corrected + 1, reconciliations("corrected"));
+        assertEquals(1.0, meterRegistry.get("client.counters.drift").gauge().value());
+    }
+
+    @Test
+    @DisplayName("doesn't count a write twice when it commits while the reconciliation counts")
+    void shouldNotDoubleCountWritesDuringReconciliation() throws InterruptedException {
+        reconcile();
+        long total = clientService.countClients();
+        long mx = clientService.countClientsByCountry("MX");
+        double corrected = reconciliations("corrected");
+        double inSync = reconciliations("in-sync");
+        clearInvocations(clientRepository);
+
+        doAnswer(invocation -> {
+            // Commits on another thread after the reconciliation started, before its query reads
+            CompletableFuture.runAsync(() -> clientService.createClient(
+                    request("racing" + TEST_DOMAIN, "+1-555-300-0031", "MX"))).join();
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(clientRepository).countActiveGroupedByCountryCode();
+
+        reconcile();
+
+        assertEquals(total + 1, clientService.countClients());
+        assertEquals(mx + 1, clientService.countClientsByCountry("MX"));
+        assertEquals(QuarkusTransaction.requiringNew().call(clientRepository::countActive), clientService.countClients());
+        assertEquals(corrected, reconciliations("corrected"));
+        assertEquals(inSync + 1, reconciliations("in-sync"));
+        verify(clientRepository, times(2)).countActiveGroupedByCountryCode();
+    }
+
+    private void reconcile() throws InterruptedException {
+        double before = reconciliationCount();
+        clientCounters.reconcile();
+        await(() -> reconciliationCount() > before);
+    }
+
+    private double reconciliationCount() {
+        return reconciliations("in-sync") + reconciliations("corrected") + reconciliations("failed")
+                + reconciliations("skipped");
+    }
+
+    private double reconciliations(String result) {
+        return meterRegistry.get("client.counters.reconciliations").tag("result", result).functionCounter().count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static CreateClientRequest request(String email, String phone, String countryCode) {
+        CreateClientRequest request = new CreateClientRequest();
+        request.firstName = "Counter";
+        request.firstSurname = "Test";
+        request.email = email;
+        request.address = "1 Counter Street";
+        request.phone = phone;
+        request.countryCode = countryCode;
+        return request;
+    }
+
+    private static UpdateClientRequest update(String email, String phone, String countryCode) {
+        UpdateClientRequest request = new UpdateClientRequest();
+        request.email = email;
+        request.address = "2 Counter Street";
+        request.phone = phone;
+        request.countryCode = countryCode;
+        return request;
+    }
+}
@@ -1,27 +1,44 @@
 package com.clientmanagement.service;
 
 import com.clientmanagement.client.CountryService;
+import com.clientmanagement.dto.client.BulkImportItemResult.Status;
+import com.clientmanagement.dto.client.BulkImportReport;
+import com.clientmanagement.dto.client.ClientField;
+import com.clientmanagement.dto.client.ClientResponse;
 import com.clientmanagement.dto.client.CreateClientRequest;
 import com.clientmanagement.dto.client.UpdateClientRequest;
 import com.clientmanagement.entity.Client;
 import com.clientmanagement.exception.ClientNotFoundException;
+import com.clientmanagement.exception.ClientVersionConflictException;
 import com.clientmanagement.exception.DuplicateEmailException;
 import com.clientmanagement.exception.DuplicatePhoneException;
 import com.clientmanagement.exception.InvalidCountryCodeException;
 import com.clientmanagement.repository.ClientRepository;
+import com.clientmanagement.repository.ClientRepository.UniqueField;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceException;
+import jakarta.ws.rs.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -68,6 +85,7 @@ class ClientServiceTest {
         existingClient.secondName = "Michael";
         existingClient.firstSurname = "Doe";
         existingClient.secondSurname = "Smith";
+        existingClient.fullName = "John Michael Doe Smith";
         existingClient.email = "john.doe@example.com";
         existingClient.address = "123 Main Street, City";
         existingClient.phone = "+1-555-123-4567";
@@ -85,8 +103,7 @@ class ClientServiceTest {
         @Test
         @DisplayName("creates client with valid data")
         void shouldCreateClientSuccessfully() {
-            when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-            when(clientRepository.existsByPhone(anyString())).thenReturn(false);
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.noneOf(UniqueField.class));
             when(countryService.getDemonym("US")).thenReturn("American");
             doNothing().when(clientRepository).persist(any(Client.class));
 
@@ -111,7 +128,7 @@ class ClientServiceTest {
         @Test
         @DisplayName("rejects duplicate email")
         void shouldThrowExceptionWhenEmailExists() {
-            when(clientRepository.existsByEmail(anyString())).thenReturn(true);
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.of(UniqueField.EMAIL));
 
             DuplicateEmailException exception = assertThrows(
                     DuplicateEmailException.class,
@@ -125,8 +142,7 @@ class ClientServiceTest {
         @Test
         @DisplayName("rejects duplicate phone")
         void shouldThrowExceptionWhenPhoneExists() {
-            when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-            when(clientRepository.existsByPhone(anyString())).thenReturn(true);
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.of(UniqueField.PHONE));
 
             DuplicatePhoneException exception = assertThrows(
                     DuplicatePhoneException.class,
@@ -141,8 +157,7 @@ class ClientServiceTest {
         @DisplayName("rejects invalid country code")
         void shouldThrowExceptionForInvalidCountryCode() {
             validCreateRequest.countryCode = "RD";
-            when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-            when(clientRepository.existsByPhone(anyString())).thenReturn(false);
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.noneOf(UniqueField.class));
             when(countryService.getDemonym("RD")).thenThrow(new InvalidCountryCodeException("RD"));
 
             assertThrows(InvalidCountryCodeException.class,
@@ -155,8 +170,7 @@ class ClientServiceTest {
         @DisplayName("normalizes email to lowercase")
         void shouldNormalizeEmailToLowercase() {
             validCreateRequest.email = "JOHN.DOE@EXAMPLE.COM";
-            when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-            when(clientRepository.existsByPhone(anyString())).thenReturn(false);
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.noneOf(UniqueField.class));
             when(countryService.getDemonym(anyString())).thenReturn("American");
             doNothing().when(clientRepository).persist(any(Client.class));
 
@@ -169,8 +183,7 @@ class ClientServiceTest {
         @DisplayName("normalizes country code to uppercase")
         void shouldNormalizeCountryCodeToUppercase() {
             validCreateRequest.countryCode = "us";
-            when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-            when(clientRepository.existsByPhone(anyString())).thenReturn(false);
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.noneOf(UniqueField.class));
             when(countryService.getDemonym("US")).thenReturn("American");
             doNothing().when(clientRepository).persist(any(Client.class));
 
@@ -185,7 +198,7 @@ class ClientServiceTest {
     class GetClientTests {
 
         @Test
-        @DisplayName("returns all active clients")
+        @DisplayName("returns a page of active clients")
         void shouldGetAllClients() {
             Client client2 = new Client();
             client2.id = 2L;
@@ -195,23 +208,77 @@ class ClientServiceTest {
             client2.email = "jane@example.com";
             client2.active = true;
 
-            List<Client> clients = Arrays.asList(existingClient, client2);
-            when(clientRepository.findAllOrderByCreatedAtDesc()).thenReturn(clients);
+            List<ClientResponse> clients = Arrays.asList(ClientResponse.fromEntity(existingClient), ClientResponse.fromEntity(client2));
+            when(clientRepository.findPageOrderByCreatedAtDesc(null, null, 51, ClientField.ALL)).thenReturn(clients);
 
-            List<Client> result = clientService.getAllClients();
+            ClientPage result = clientService.getClientsPage(null, null);
 
-            assertEquals(2, result.size());
-            verify(clientRepository).findAllOrderByCreatedAtDesc();
+            assertEquals(2, result.clients().size());
+            assertNull(result.nextCursor());
+            verify(clientRepository).findPageOrderByCreatedAtDesc(null, null, 51, ClientField.ALL);
         }
 
         @Test
-        @DisplayName("returns empty list when no clients")
+        @DisplayName("returns empty page when no clients")
         void shouldReturnEmptyListWhenNoClients() {
-            when(clientRepository.findAllOrderByCreatedAtDesc()).thenReturn(Collections.emptyList());
+            when(clientRepository.findPageOrderByCreatedAtDesc(isNull(), isNull(), anyInt(), eq(ClientField.ALL))).thenReturn(Collections.emptyList());
 
-            List<Client> result = clientService.getAllClients();
+            ClientPage result = clientService.getClientsPage(null, null);
 
-            assertTrue(result.isEmpty());
+            assertTrue(result.clients().isEmpty());
+            assertNull(result.nextCursor());
+        }
+
+        @Test
+        @DisplayName("returns a cursor when more clients follow, and continues from it")
+        void shouldContinueFromCursor() {
+            ClientResponse newer = new ClientResponse(7L, "a1f5d9c3-6e2b-4d8a-b7c4-5f3e1a9d6b2c", "Jane", null, "Doe", null,
+                    "Jane Doe", "jane@example.com", null, null, "US", null, true, LocalDateTime.of(2026, 3, 1, 10, 0), null);
+            ClientResponse older = new ClientResponse(5L, "b2c6e0d4-7f3c-4e9b-a8d5-6a4f2b0e7c3d", "Ann", null, "Roe", null,
+                    "Ann Roe", "ann@example.com", null, null, "US", null, true, LocalDateTime.of(2026, 2, 1, 10, 0), null);
+            when(clientRepository.findPageOrderByCreatedAtDesc(null, null, 2, ClientField.ALL)).thenReturn(List.of(newer, older));
+
+            ClientPage first = clientService.getClientsPage(null, 1);
+
+            assertEquals(List.of(newer), first.clients());
+            assertNotNull(first.nextCursor());
+
+            when(clientRepository.findPageOrderByCreatedAtDesc(newer.createdAt, 7L, 2, ClientField.ALL)).thenReturn(List.of(older));
+
+            ClientPage second = clientService.getClientsPage(first.nextCursor(), 1);
+
+            assertEquals(List.of(older), second.clients());
+            assertNull(second.nextCursor());
+        }
+
+        @Test
+        @DisplayName("rejects a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThrows(BadRequestException.class, () -> clientService.getClientsPage("not-a-cursor", null));
+        }
+
+        @Test
+        @DisplayName("rejects a limit above the maximum")
+        void shouldRejectLimitAboveMaximum() {
+            assertThrows(BadRequestException.class, () -> clientService.getClientsPage(null, 201));
+            assertThrows(BadRequestException.class, () -> clientService.getClientsPage(null, 0));
+        }
+
+        @Test
+        @DisplayName("export visits every client and clears the persistence context per batch")
+        void shouldExportAllClientsInBatches() {
+            List<Client> rows = new ArrayList<>();
+            for (int i = 0; i < 1001; i++) {
+                rows.add(existingClient);
+            }
+            when(clientRepository.streamAllActive(500)).thenReturn(rows.stream());
+            List<Client> seen = new ArrayList<>();
+
+            long exported = clientService.forEachActiveClient(seen::add);
+
+            assertEquals(1001, exported);
+            assertEquals(1001, seen.size());
+            verify(clientRepository, times(2)).clearPersistenceContext();
         }
 
         @Test
@@ -244,10 +311,10 @@ class ClientServiceTest {
         @Test
         @DisplayName("filters by country code")
         void shouldGetClientsByCountry() {
-            List<Client> usClients = Collections.singletonList(existingClient);
-            when(clientRepository.findByCountryCode("US")).thenReturn(usClients);
+            List<ClientResponse> usClients = Collections.singletonList(ClientResponse.fromEntity(existingClient));
+            when(clientRepository.findByCountryCode("US", ClientField.ALL)).thenReturn(usClients);
 
-            List<Client> result = clientService.getClientsByCountry("US");
+            List<ClientResponse> result = clientService.getClientsByCountry("US");
 
             assertEquals(1, result.size());
             assertEquals("US", result.get(0).countryCode);
@@ -256,11 +323,125 @@ class ClientServiceTest {
         @Test
         @DisplayName("normalizes country code on filter")
         void shouldNormalizeCountryCodeOnGet() {
-            when(clientRepository.findByCountryCode("US")).thenReturn(Collections.singletonList(existingClient));
+            when(clientRepository.findByCountryCode("US", ClientField.ALL)).thenReturn(Collections.singletonList(ClientResponse.fromEntity(existingClient)));
 
             clientService.getClientsByCountry("us");
 
-            verify(clientRepository).findByCountryCode("US");
+            verify(clientRepository).findByCountryCode("US", ClientField.ALL);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Import")
+    class BulkImportTests {
+
+        @BeforeEach
+        void noTakenContacts() {
+            when(clientRepository.findTakenContacts(anyCollection(), anyCollection())).thenReturn(taken(Set.of(), Set.of()));
+        }
+
+        @Test
+        @DisplayName("inserts valid items in one batch and resolves each country once")
+        void shouldImportValidItemsInOneBatch() {
+            when(countryService.getDemonym("US")).thenReturn("American");
+            when(countryService.getDemonym("MX")).thenReturn("Mexican");
+
+            BulkImportReport report = clientService.importClients(List.of(
+                    bulkRequest("a@bulk.test", "+1-555-000-0001", "US"),
+                    bulkRequest("b@bulk.test", "+1-555-000-0002", "MX"),
+                    bulkRequest("c@bulk.test", "+1-555-000-0003", "US")).iterator());
+
+            assertEquals(3, report.received);
+            assertEquals(3, report.created);
+            assertEquals(List.of(0, 1, 2), report.items.stream().map(item -> item.index).toList());
+            verify(countryService, times(1)).getDemonym("US");
+            verify(countryService, times(1)).getDemonym("MX");
+            verify(clientRepository, times(1)).findTakenContacts(anyCollection(), anyCollection());
+            verify(clientRepository, times(3)).persist(any(Client.class));
+            verify(clientRepository, times(1)).flush();
+        }
+
+        @Test
+        @DisplayName("reports invalid, repeated and already taken items without stopping the rest")
+        void shouldReportRejectedItems() {
+            when(countryService.getDemonym("US")).thenReturn("American");
+            when(countryService.getDemonym("ZZ")).thenThrow(new InvalidCountryCodeException("ZZ"));
+            when(clientRepository.findTakenContacts(anyCollection(), anyCollection()))
+                    .thenReturn(taken(Set.of("taken@bulk.test"), Set.of()));
+            CreateClientRequest invalid = bulkRequest("not-an-email", "+1-555-000-0001", "US");
+
+            BulkImportReport report = clientService.importClients(List.of(
+                    invalid,
+                    bulkRequest("a@bulk.test", "+1-555-000-0002", "US"),
+                    bulkRequest("A@bulk.test", "+1-555-000-0003", "US"),
+                    bulkRequest("taken@bulk.test", "+1-555-000-0004", "US"),
+                    bulkRequest("z@bulk.test", "+1-555-000-0005", "ZZ")).iterator());
+
+            assertEquals(5, report.received);
+            assertEquals(1, report.created);
+            assertEquals(4, report.rejected);
+            assertEquals(List.of(Status.INVALID, Status.CREATED, Status.DUPLICATE, Status.DUPLICATE, Status.INVALID),
+                    report.items.stream().map(item -> item.status).toList());
+            assertEquals("email", report.items.get(0).errors.get(0).field);
+            assertEquals("countryCode", report.items.get(4).errors.get(0).field);
+            verify(clientRepository, times(1)).persist(any(Client.class));
+        }
+
+        @Test
+        @DisplayName("redoes a batch row by row when a concurrent insert breaks the flush")
+        void shouldRetryRowByRowWhenBatchFails() {
+            when(countryService.getDemonym("US")).thenReturn("American");
+            when(clientRepository.findDuplicateFields(any(), any(), isNull())).thenReturn(EnumSet.noneOf(UniqueField.class));
+            PersistenceException collision = new PersistenceException("could not execute batch",
+                    new RuntimeException("Unique index or primary key violation: UK_CLIENT_EMAIL"));
+            doThrow(collision).doThrow(collision).doNothing().when(clientRepository).flush();
+
+            BulkImportReport report = clientService.importClients(List.of(
+                    bulkRequest("a@bulk.test", "+1-555-000-0001", "US"),
+                    bulkRequest("b@bulk.test", "+1-555-000-0002", "US")).iterator());
+
+            assertEquals(List.of(Status.DUPLICATE, Status.CREATED),
+                    report.items.stream().map(item -> item.status).toList());
+            verify(clientRepository, times(3)).flush();
+        }
+
+        @Test
+        @DisplayName("stops at a malformed item and keeps what was read before it")
+        void shouldStopAtMalformedItem() {
+            when(countryService.getDemonym("US")).thenReturn("American");
+            Iterator<CreateClientRequest> requests = new Iterator<>() {
+                private int read;
+
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public CreateClientRequest next() {
+                    if (read++ == 0) {
+                        return bulkRequest("a@bulk.test", "+1-555-000-0001", "US");
+                    }
+                    throw new IllegalStateException("Unexpected character");
+                }
+            };
+
+            BulkImportReport report = clientService.importClients(requests);
+
+            assertEquals(2, report.received);
+            assertEquals(Status.CREATED, report.items.get(0).status);
+            assertEquals(Status.INVALID, report.items.get(1).status);
+        }
+
+        private Map<UniqueField, Set<String>> taken(Set<String> emails, Set<String> phones) {
+            Map<UniqueField, Set<String>> taken = new EnumMap<>(UniqueField.class);
+            taken.put(UniqueField.EMAIL, emails);
+            taken.put(UniqueField.PHONE, phones);
+            return taken;
+        }
+
+        private CreateClientRequest bulkRequest(String email, String phone, String countryCode) {
+            return new CreateClientRequest("Bulk", null, "Client", null, email, "1 Import Street", phone, countryCode);
         }
     }
 
@@ -272,8 +453,7 @@ class ClientServiceTest {
         @DisplayName("updates fields successfully")
         void shouldUpdateClientSuccessfully() {
             when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsByEmailAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(false);
-            when(clientRepository.existsByPhoneAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(false);
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.noneOf(UniqueField.class));
             when(countryService.getDemonym("MX")).thenReturn("Mexican");
 
             Client result = clientService.updateClient(existingClient.uuid, validUpdateRequest);
@@ -286,6 +466,49 @@ class ClientServiceTest {
             assertNotNull(result.updatedAt);
         }
 
+        @Test
+        @DisplayName("updates when the expected version is current")
+        void shouldUpdateMatchingVersion() {
+            existingClient.version = 2;
+            when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.noneOf(UniqueField.class));
+            when(countryService.getDemonym("MX")).thenReturn("Mexican");
+
+            Client result = clientService.updateClient(existingClient.uuid, validUpdateRequest, 2L);
+
+            assertEquals("john.updated@example.com", result.email);
+        }
+
+        @Test
+        @DisplayName("rejects an update based on an outdated version")
+        void shouldRejectOutdatedVersion() {
+            existingClient.version = 3;
+            when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
+            when(countryService.getDemonym("MX")).thenReturn("Mexican");
+
+            ClientVersionConflictException conflict = assertThrows(ClientVersionConflictException.class,
+                    () -> clientService.updateClient(existingClient.uuid, validUpdateRequest, 2L));
+
+            assertTrue(conflict.isConditional());
+            assertEquals("john.doe@example.com", existingClient.email);
+            verify(clientRepository, never()).findDuplicateFields(any(), any(), any());
+            verify(clientRepository, never()).flush();
+        }
+
+        @Test
+        @DisplayName("reports a write that lost a race as a conflict")
+        void shouldReportConcurrentWrite() {
+            when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.noneOf(UniqueField.class));
+            when(countryService.getDemonym("MX")).thenReturn("Mexican");
+            doThrow(new OptimisticLockException("stale")).when(clientRepository).flush();
+
+            ClientVersionConflictException conflict = assertThrows(ClientVersionConflictException.class,
+                    () -> clientService.updateClient(existingClient.uuid, validUpdateRequest));
+
+            assertFalse(conflict.isConditional());
+        }
+
         @Test
         @DisplayName("throws 404 for non-existent client")
         void shouldThrowExceptionWhenUpdatingNonExistentClient() {
@@ -300,7 +523,7 @@ class ClientServiceTest {
         @DisplayName("rejects email that belongs to another client")
         void shouldThrowExceptionWhenEmailBelongsToAnother() {
             when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsByEmailAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(true);
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.of(UniqueField.EMAIL));
 
             assertThrows(DuplicateEmailException.class,
                     () -> clientService.updateClient(existingClient.uuid, validUpdateRequest));
@@ -310,8 +533,7 @@ class ClientServiceTest {
         @DisplayName("rejects phone that belongs to another client")
         void shouldThrowExceptionWhenPhoneBelongsToAnother() {
             when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsByEmailAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(false);
-            when(clientRepository.existsByPhoneAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(true);
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.of(UniqueField.PHONE));
 
             assertThrows(DuplicatePhoneException.class,
                     () -> clientService.updateClient(existingClient.uuid, validUpdateRequest));
@@ -323,12 +545,13 @@ class ClientServiceTest {
             validUpdateRequest.email = existingClient.email;
             validUpdateRequest.countryCode = existingClient.countryCode;
             when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsByEmailAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(false);
-            when(clientRepository.existsByPhoneAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(false);
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.noneOf(UniqueField.class));
 
             Client result = clientService.updateClient(existingClient.uuid, validUpdateRequest);
 
             assertEquals(existingClient.email, result.email);
+            // Only the changed phone is probed, in a single query
+            verify(clientRepository).findDuplicateFields(isNull(), eq("+1-555-987-6543"), eq(existingClient.uuid));
         }
 
         @Test
@@ -336,8 +559,7 @@ class ClientServiceTest {
         void shouldThrowExceptionForInvalidCountryCodeOnUpdate() {
             validUpdateRequest.countryCode = "RD";
             when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsByEmailAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(false);
-            when(clientRepository.existsByPhoneAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(false);
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.noneOf(UniqueField.class));
             when(countryService.getDemonym("RD")).thenThrow(new InvalidCountryCodeException("RD"));
 
             assertThrows(InvalidCountryCodeException.class,
@@ -352,13 +574,95 @@ class ClientServiceTest {
         void shouldNotFetchDemonymIfCountryUnchanged() {
             validUpdateRequest.countryCode = "US";
             when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsByEmailAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(false);
-            when(clientRepository.existsByPhoneAndUuidNot(anyString(), eq(existingClient.uuid))).thenReturn(false);
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.noneOf(UniqueField.class));
 
             clientService.updateClient(existingClient.uuid, validUpdateRequest);
 
             verify(countryService, never()).getDemonym(anyString());
         }
+
+        @Test
+        @DisplayName("reports a conflict instead of resolving the country inside the transaction")
+        void shouldNotResolveCountryInsideTransaction() {
+            validUpdateRequest.countryCode = "US";
+            Client moved = new Client();
+            moved.uuid = existingClient.uuid;
+            moved.email = existingClient.email;
+            moved.phone = existingClient.phone;
+            moved.countryCode = "MX";
+            moved.demonym = "Mexican";
+            // Another write moves the client between the first read and the transaction
+            when(clientRepository.findActiveByUuid(existingClient.uuid))
+                    .thenReturn(Optional.of(existingClient))
+                    .thenReturn(Optional.of(moved));
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.noneOf(UniqueField.class));
+
+            ClientVersionConflictException conflict = assertThrows(ClientVersionConflictException.class,
+                    () -> clientService.updateClient(existingClient.uuid, validUpdateRequest));
+
+            assertFalse(conflict.isConditional());
+            assertEquals("MX", moved.countryCode);
+            verify(countryService, never()).getDemonym(anyString());
+            verify(clientRepository, never()).flush();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reactive Write Path")
+    class ReactiveWriteTests {
+
+        @Test
+        @DisplayName("creates client after a non-blocking country lookup")
+        void shouldCreateClientAsync() {
+            when(clientRepository.findDuplicateFields(anyString(), anyString(), isNull())).thenReturn(EnumSet.noneOf(UniqueField.class));
+            when(countryService.getDemonymAsync("US")).thenReturn(Uni.createFrom().item("American"));
+
+            Client result = clientService.createClientAsync(validCreateRequest).await().atMost(Duration.ofSeconds(5));
+
+            assertEquals("john.doe@example.com", result.email);
+            assertEquals("American", result.demonym);
+            assertNotNull(result.createdAt);
+            verify(clientRepository).persist(any(Client.class));
+            verify(countryService, never()).getDemonym(anyString());
+        }
+
+        @Test
+        @DisplayName("fails without persisting when the country code is invalid")
+        void shouldNotPersistWhenCountryInvalidAsync() {
+            when(countryService.getDemonymAsync("US"))
+                    .thenReturn(Uni.createFrom().failure(new InvalidCountryCodeException("US")));
+
+            assertThrows(InvalidCountryCodeException.class,
+                    () -> clientService.createClientAsync(validCreateRequest).await().atMost(Duration.ofSeconds(5)));
+
+            verify(clientRepository, never()).persist(any(Client.class));
+        }
+
+        @Test
+        @DisplayName("updates client and resolves the new country without blocking")
+        void shouldUpdateClientAsync() {
+            when(clientRepository.findActiveByUuid(existingClient.uuid)).thenReturn(Optional.of(existingClient));
+            when(clientRepository.findDuplicateFields(any(), any(), eq(existingClient.uuid))).thenReturn(EnumSet.noneOf(UniqueField.class));
+            when(countryService.getDemonymAsync("MX")).thenReturn(Uni.createFrom().item("Mexican"));
+
+            Client result = clientService.updateClientAsync(existingClient.uuid, validUpdateRequest)
+                    .await().atMost(Duration.ofSeconds(5));
+
+            assertEquals("MX", result.countryCode);
+            assertEquals("Mexican", result.demonym);
+            verify(countryService, never()).getDemonym(anyString());
+        }
+
+        @Test
+        @DisplayName("fails with 404 for non-existent client")
+        void shouldFailAsyncUpdateForMissingClient() {
+            String nonExistentUuid = "00000000-0000-0000-0000-000000000000";
+            when(clientRepository.findActiveByUuid(nonExistentUuid)).thenReturn(Optional.empty());
+
+            assertThrows(ClientNotFoundException.class,
+                    () -> clientService.updateClientAsync(nonExistentUuid, validUpdateRequest)
+                            .await().atMost(Duration.ofSeconds(5)));
+        }
     }
 
     @Nested
@@ -0,0 +1,133 @@
+package com.clientmanagement.service;
+
+import com.clientmanagement.client.CountryService;
+import com.clientmanagement.dto.client.CreateClientRequest;
+import com.clientmanagement.entity.Client;
+import com.clientmanagement.exception.DuplicateEmailException;
+import com.clientmanagement.exception.DuplicatePhoneException;
+import com.clientmanagement.repository.ClientRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.mockito.InjectSpy;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the create path against the real database with the contact filter enabled.
+ */
+@QuarkusTest
+@TestProfile(ContactFilterTest.FilterEnabledProfile.class)
+class ContactFilterTest {
+
+    private static final String TEST_DOMAIN = "@filter.test";
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    ContactFilter contactFilter;
+
+    @Inject
+    EntityManager entityManager;
+
+    @InjectSpy
+    ClientRepository clientRepository;
+
+    @InjectMock
+    CountryService countryService;
+
+    public static class FilterEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "client.contact-filter.enabled", "true",
+                    "client.contact-filter.expected-insertions", "1000");
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        when(countryService.getDemonym(anyString())).thenReturn("American");
+        for (int i = 0; i < 100 && !contactFilter.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(contactFilter.isReady());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        QuarkusTransaction.requiringNew().run(() ->
+                clientRepository.delete("email like ?1", "%" + TEST_DOMAIN));
+    }
+
+    @Test
+    @DisplayName("loads the seeded clients at startup")
+    void shouldKnowExistingClients() {
+        assertTrue(contactFilter.mightContainEmail("john.doe@example.com"));
+        assertTrue(contactFilter.mightContainPhone("+1-555-123-4567"));
+    }
+
+    @Test
+    @DisplayName("skips the database probe for values it has never seen")
+    void shouldSkipProbeForNewValues() {
+        clientService.createClient(request("fresh" + TEST_DOMAIN, "+1-555-100-0001"));
+
+        verify(clientRepository).findDuplicateFields(isNull(), isNull(), isNull());
+        assertTrue(contactFilter.mightContainEmail("fresh" + TEST_DOMAIN));
+    }
+
+    @Test
+    @DisplayName("still rejects duplicates, through the probe")
+    void shouldRejectKnownDuplicates() {
+        clientService.createClient(request("taken" + TEST_DOMAIN, "+1-555-100-0002"));
+
+        assertThrows(DuplicateEmailException.class,
+                () -> clientService.createClient(request("taken" + TEST_DOMAIN, "+1-555-100-0003")));
+        assertThrows(DuplicatePhoneException.class,
+                () -> clientService.createClient(request("other" + TEST_DOMAIN, "+1-555-100-0002")));
+    }
+
+    @Test
+    @DisplayName("rejects a duplicate it missed through the unique index")
+    void shouldRejectDuplicatesWrittenBehindItsBack() {
+        // Written without going through ClientService, as another instance would
+        QuarkusTransaction.requiringNew().run(() -> {
+            Client client = new Client();
+            client.firstName = "Other";
+            client.firstSurname = "Instance";
+            client.email = "elsewhere" + TEST_DOMAIN;
+            client.address = "1 Filter Street";
+            client.phone = "+1-555-100-0004";
+            client.countryCode = "US";
+            entityManager.persist(client);
+        });
+        assertFalse(contactFilter.mightContainEmail("elsewhere" + TEST_DOMAIN));
+
+        assertThrows(DuplicateEmailException.class,
+                () -> clientService.createClient(request("elsewhere" + TEST_DOMAIN, "+1-555-100-0005")));
+    }
+
+    private static CreateClientRequest request(String email, String phone) {
+        CreateClientRequest request = new CreateClientRequest();
+        request.firstName = "Filter";
+        request.firstSurname = "Test";
+        request.email = email;
+        request.address = "1 Filter Street";
+        request.phone = phone;
+        request.countryCode = "US";
+        return request;
+    }
+}